@@ -1,14 +1,22 @@
 package com.ehb.connected;
 
 import com.ehb.connected.config.properties.ConnectedProperties;
+import com.ehb.connected.config.properties.NotificationOutboxProperties;
+import com.ehb.connected.config.properties.NotificationRetentionProperties;
+import com.ehb.connected.config.properties.ProjectEventProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
-@EnableConfigurationProperties(
-        ConnectedProperties.class
-)
+@EnableScheduling
+@EnableConfigurationProperties({
+        ConnectedProperties.class,
+        ProjectEventProperties.class,
+        NotificationOutboxProperties.class,
+        NotificationRetentionProperties.class
+})
 public class ConnectedApplication {
 
 	public static void main(String[] args) {
@@ -61,7 +61,7 @@ public class SecurityConfig {
                                 "/oauth2/authorization/**",  // OAuth2 authorization endpoints
                                 "/error",
                                 "/ws/**",  // WebSocket endpoints
-                                "/actuator/**",  // Actuator endpoints
+                                "/actuator/health", "/actuator/health/**",  // Health probes, metrics stay behind login
                                 "/api/users/verify",  // Email verification endpoint
                                 "/api/bugs"  // Public bug reporting
                         ).permitAll()
@@ -0,0 +1,24 @@
+package com.ehb.connected.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Validated
+@ConfigurationProperties(prefix = "connected.notifications.outbox")
+public record NotificationOutboxProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("200") int batchSize,
+        // Upper bound on delivery delay when no commit wakes the dispatcher (other instances, retries)
+        @DefaultValue("1s") Duration pollInterval,
+        @DefaultValue("5s") Duration retryBackoff,
+        @DefaultValue("5m") Duration maxRetryBackoff,
+        // A row that still cannot be persisted after this many attempts is dropped
+        @DefaultValue("10") int maxAttempts,
+        @DefaultValue("3") int deliveryAttempts,
+        // Coalescable notifications join an unread aggregate last updated within this window
+        @DefaultValue("1h") Duration coalesceWindow
+) {
+}
@@ -0,0 +1,21 @@
+package com.ehb.connected.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Validated
+@ConfigurationProperties(prefix = "connected.notifications.retention")
+public record NotificationRetentionProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("90d") Duration readRetention,
+        @DefaultValue("365d") Duration unreadRetention,
+        // Newest notifications kept per user regardless of age
+        @DefaultValue("500") int maxPerUser,
+        @DefaultValue("1000") int batchSize,
+        // Pause between batches so feed reads and new inserts are not starved of row locks
+        @DefaultValue("100ms") Duration batchPause
+) {
+}
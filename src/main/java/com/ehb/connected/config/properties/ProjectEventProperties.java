@@ -0,0 +1,33 @@
+package com.ehb.connected.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.time.Period;
+
+@Validated
+@ConfigurationProperties(prefix = "connected.project-events")
+public record ProjectEventProperties(
+        @DefaultValue("10000") int queueCapacity,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("200ms") Duration flushInterval,
+        // How long a request waits for queue space before writing its events itself
+        @DefaultValue("50ms") Duration offerTimeout,
+        @DefaultValue Archive archive,
+        @DefaultValue Partitions partitions
+) {
+    public record Archive(
+            @DefaultValue("false") boolean enabled,
+            // Whole months older than this are exported and dropped from the hot table
+            @DefaultValue("6m") Period retention,
+            @DefaultValue("archive/project-events") String directory
+    ) {}
+
+    public record Partitions(
+            @DefaultValue("true") boolean enabled,
+            // Empty monthly partitions kept split off pmax ahead of the current month
+            @DefaultValue("2") int monthsAhead
+    ) {}
+}
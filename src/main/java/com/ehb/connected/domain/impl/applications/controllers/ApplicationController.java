@@ -2,8 +2,11 @@ package com.ehb.connected.domain.impl.applications.controllers;
 
 
 import com.ehb.connected.domain.impl.applications.dto.ApplicationDetailsDto;
+import com.ehb.connected.domain.impl.applications.dto.ApplicationReviewDto;
+import com.ehb.connected.domain.impl.applications.dto.ApplicationSummaryDto;
 import com.ehb.connected.domain.impl.applications.entities.ApplicationStatusEnum;
 import com.ehb.connected.domain.impl.applications.service.ApplicationServiceImpl;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -11,10 +14,13 @@ import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 
 @RestController
 @RequestMapping("/api/applications")
@@ -30,6 +36,12 @@ public class ApplicationController {
         return ResponseEntity.ok(applicationService.reviewApplication(authentication, applicationId, status));
     }
 
+    @PreAuthorize("hasAnyAuthority('application:review')")
+    @PostMapping("/review")
+    public ResponseEntity<List<ApplicationSummaryDto>> reviewApplications(Authentication authentication, @RequestBody List<@Valid ApplicationReviewDto> reviews) {
+        return ResponseEntity.ok(applicationService.reviewApplications(authentication, reviews));
+    }
+
     @PreAuthorize("hasAnyAuthority('application:join')")
     @PostMapping("/{applicationId}/join")
     public ResponseEntity<ApplicationDetailsDto> joinProjectByApplication(Authentication authentication, @PathVariable Long applicationId) {
@@ -0,0 +1,8 @@
+package com.ehb.connected.domain.impl.applications.dto;
+
+// JPQL constructor projection of an application and its applicant (null when the account is gone), see ApplicationRepository
+public record ApplicationApplicantRow(
+        Long id,
+        Long applicantId
+) {
+}
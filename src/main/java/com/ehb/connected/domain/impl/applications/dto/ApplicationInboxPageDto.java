@@ -0,0 +1,19 @@
+package com.ehb.connected.domain.impl.applications.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ApplicationInboxPageDto {
+    private List<ApplicationSummaryDto> items;
+    private boolean hasMore;
+    // Cursor for the next page, pass back as beforeId
+    private Long nextBeforeId;
+}
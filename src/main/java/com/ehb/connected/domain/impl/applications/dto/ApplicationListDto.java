@@ -0,0 +1,12 @@
+package com.ehb.connected.domain.impl.applications.dto;
+
+import com.ehb.connected.domain.impl.projects.dto.ProjectListItemDto;
+
+import java.util.List;
+import java.util.Map;
+
+public record ApplicationListDto(
+        List<ApplicationListItemDto> applications,
+        Map<Long, ProjectListItemDto> projects
+) {
+}
@@ -0,0 +1,15 @@
+package com.ehb.connected.domain.impl.applications.dto;
+
+import com.ehb.connected.domain.impl.applications.entities.ApplicationStatusEnum;
+
+// References its project by id, the project itself is side-loaded once in ApplicationListDto
+public record ApplicationListItemDto(
+        Long id,
+        String motivationMd,
+        ApplicationStatusEnum status,
+        Long projectId,
+        Applicant applicant
+) {
+    public record Applicant(Long id, String firstName, String lastName, String profileImageUrl) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.ehb.connected.domain.impl.applications.dto;
+
+import com.ehb.connected.domain.impl.applications.entities.ApplicationStatusEnum;
+
+// JPQL constructor projection, see ApplicationRepository#findListRowsByAssignmentId
+public record ApplicationListRow(
+        Long id,
+        String motivationMd,
+        ApplicationStatusEnum status,
+        Long projectId,
+        Long applicantId,
+        String applicantFirstName,
+        String applicantLastName,
+        String applicantProfileImageUrl
+) {
+}
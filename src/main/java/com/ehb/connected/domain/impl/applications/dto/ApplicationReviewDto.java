@@ -0,0 +1,10 @@
+package com.ehb.connected.domain.impl.applications.dto;
+
+import com.ehb.connected.domain.impl.applications.entities.ApplicationStatusEnum;
+import jakarta.validation.constraints.NotNull;
+
+public record ApplicationReviewDto(
+        @NotNull Long applicationId,
+        @NotNull ApplicationStatusEnum status
+) {
+}
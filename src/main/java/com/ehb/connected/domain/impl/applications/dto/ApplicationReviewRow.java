@@ -0,0 +1,18 @@
+package com.ehb.connected.domain.impl.applications.dto;
+
+import com.ehb.connected.domain.impl.applications.entities.ApplicationStatusEnum;
+
+// JPQL constructor projection with everything a bulk review needs, see ApplicationRepository
+public record ApplicationReviewRow(
+        Long id,
+        ApplicationStatusEnum status,
+        Long projectId,
+        String projectTitle,
+        Long productOwnerId,
+        Long applicantId,
+        String applicantFirstName,
+        String applicantLastName,
+        String courseName,
+        String assignmentName
+) {
+}
@@ -0,0 +1,15 @@
+package com.ehb.connected.domain.impl.applications.dto;
+
+import com.ehb.connected.domain.impl.applications.entities.ApplicationStatusEnum;
+
+// JPQL constructor projection, see ApplicationRepository
+public record ApplicationSummaryDto(
+        Long id,
+        ApplicationStatusEnum status,
+        Long projectId,
+        String projectTitle,
+        Long applicantId,
+        String applicantFirstName,
+        String applicantLastName
+) {
+}
@@ -1,13 +1,19 @@
 package com.ehb.connected.domain.impl.applications.mappers;
 
 import com.ehb.connected.domain.impl.applications.dto.ApplicationDetailsDto;
+import com.ehb.connected.domain.impl.applications.dto.ApplicationListDto;
+import com.ehb.connected.domain.impl.applications.dto.ApplicationListItemDto;
+import com.ehb.connected.domain.impl.applications.dto.ApplicationListRow;
 import com.ehb.connected.domain.impl.applications.entities.Application;
+import com.ehb.connected.domain.impl.projects.dto.ProjectListItemDto;
 import com.ehb.connected.domain.impl.projects.mappers.ProjectMapper;
 import com.ehb.connected.domain.impl.users.mappers.UserDetailsMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Component
 @RequiredArgsConstructor
@@ -29,4 +35,23 @@ public class ApplicationMapper {
         return applications.stream().map(this::toDto).toList();
     }
 
+    public ApplicationListDto toListDto(List<ApplicationListRow> applications, List<ProjectListItemDto> projects) {
+        Map<Long, ProjectListItemDto> projectsById = new LinkedHashMap<>();
+        projects.forEach(project -> projectsById.put(project.id(), project));
+
+        return new ApplicationListDto(
+                applications.stream()
+                        .map(a -> new ApplicationListItemDto(
+                                a.id(),
+                                a.motivationMd(),
+                                a.status(),
+                                a.projectId(),
+                                a.applicantId() == null ? null : new ApplicationListItemDto.Applicant(
+                                        a.applicantId(), a.applicantFirstName(), a.applicantLastName(), a.applicantProfileImageUrl())
+                        ))
+                        .toList(),
+                projectsById
+        );
+    }
+
 }
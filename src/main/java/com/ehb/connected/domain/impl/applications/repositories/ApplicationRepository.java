@@ -1,12 +1,24 @@
 package com.ehb.connected.domain.impl.applications.repositories;
 
+import com.ehb.connected.domain.impl.applications.dto.ApplicationApplicantRow;
+import com.ehb.connected.domain.impl.applications.dto.ApplicationListRow;
+import com.ehb.connected.domain.impl.applications.dto.ApplicationReviewRow;
+import com.ehb.connected.domain.impl.applications.dto.ApplicationSummaryDto;
 import com.ehb.connected.domain.impl.applications.entities.Application;
+import com.ehb.connected.domain.impl.applications.entities.ApplicationStatusEnum;
+import com.ehb.connected.domain.impl.projects.entities.ProjectStatusEnum;
+import com.ehb.connected.domain.impl.teamformation.dto.ApplicationPreferenceRow;
 import com.ehb.connected.domain.impl.users.entities.User;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -19,8 +31,187 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
     @Query("SELECT a FROM Application a WHERE a.project.assignment.id = :assignmentId AND a.applicant = :applicant")
     List<Application> findByApplicantInAssignment(@Param("assignmentId") Long assignmentId, @Param("applicant") User applicant);
 
-    @Query("SELECT a FROM Application a WHERE (a.applicant.id = :userId OR a.project.productOwner.id = :userId) AND a.project.assignment.id = :assignmentId")
-    List<Application> findAllApplicationsByUserIdOrProjectProductOwnerAndAssignment(@Param("userId") Long userId, @Param("assignmentId") Long assignmentId);
+    // Applications a user sent or received in an assignment; a UNION of two index lookups instead of an OR across the join
+    @Query(value = """
+              select a.id
+              from applications a
+              join projects p on p.id = a.project_id
+              where a.user_id = :userId
+                and p.assignment_id = :assignmentId
+              union
+              select a.id
+              from projects p
+              join applications a on a.project_id = p.id
+              where p.product_owner_user_id = :userId
+                and p.assignment_id = :assignmentId
+            """, nativeQuery = true)
+    List<Long> findInboxIds(@Param("userId") Long userId, @Param("assignmentId") Long assignmentId);
+
+    // Keyset page of the same inbox, newest first; each branch is limited before the union
+    @Query(value = """
+              (select a.id
+               from applications a
+               join projects p on p.id = a.project_id
+               where a.user_id = :userId
+                 and p.assignment_id = :assignmentId
+                 and a.status in (:statuses)
+                 and a.id < :beforeId
+               order by a.id desc
+               limit :limit)
+              union
+              (select a.id
+               from projects p
+               join applications a on a.project_id = p.id
+               where p.product_owner_user_id = :userId
+                 and p.assignment_id = :assignmentId
+                 and a.status in (:statuses)
+                 and a.id < :beforeId
+               order by a.id desc
+               limit :limit)
+              order by id desc
+              limit :limit
+            """, nativeQuery = true)
+    List<Long> findInboxPageIds(@Param("userId") Long userId,
+                                @Param("assignmentId") Long assignmentId,
+                                @Param("statuses") Collection<String> statuses,
+                                @Param("beforeId") Long beforeId,
+                                @Param("limit") int limit);
+
+    @Query("""
+              select new com.ehb.connected.domain.impl.applications.dto.ApplicationSummaryDto(
+                  a.id, a.status, p.id, p.title, u.id, u.firstName, u.lastName)
+              from Application a
+              join a.project p
+              left join a.applicant u
+              where p.assignment.id = :assignmentId
+                and a.status in :statuses
+                and a.id < :beforeId
+              order by a.id desc
+            """)
+    List<ApplicationSummaryDto> findSummaryPageByAssignmentId(@Param("assignmentId") Long assignmentId,
+                                                              @Param("statuses") Collection<ApplicationStatusEnum> statuses,
+                                                              @Param("beforeId") Long beforeId,
+                                                              Limit limit);
+
+    @Query("""
+              select new com.ehb.connected.domain.impl.applications.dto.ApplicationSummaryDto(
+                  a.id, a.status, p.id, p.title, u.id, u.firstName, u.lastName)
+              from Application a
+              join a.project p
+              left join a.applicant u
+              where a.id in :ids
+              order by a.id desc
+            """)
+    List<ApplicationSummaryDto> findSummariesByIdsNewestFirst(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+              select new com.ehb.connected.domain.impl.applications.dto.ApplicationSummaryDto(
+                  a.id, a.status, p.id, p.title, u.id, u.firstName, u.lastName)
+              from Application a
+              join a.project p
+              left join a.applicant u
+              where a.id in :ids
+              order by a.id
+            """)
+    List<ApplicationSummaryDto> findSummariesByIdsOldestFirst(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+              select new com.ehb.connected.domain.impl.applications.dto.ApplicationSummaryDto(
+                  a.id, a.status, p.id, p.title, u.id, u.firstName, u.lastName)
+              from Application a
+              join a.project p
+              left join a.applicant u
+              where p.assignment.id = :assignmentId
+              order by a.id
+            """)
+    List<ApplicationSummaryDto> findSummariesByAssignmentId(@Param("assignmentId") Long assignmentId);
+
+    @Query("""
+              select new com.ehb.connected.domain.impl.applications.dto.ApplicationListRow(
+                  a.id, a.motivationMd, a.status, p.id, u.id, u.firstName, u.lastName, u.profileImageUrl)
+              from Application a
+              join a.project p
+              left join a.applicant u
+              where p.assignment.id = :assignmentId
+              order by a.id
+            """)
+    List<ApplicationListRow> findListRowsByAssignmentId(@Param("assignmentId") Long assignmentId);
+
+    @Query("""
+              select new com.ehb.connected.domain.impl.applications.dto.ApplicationListRow(
+                  a.id, a.motivationMd, a.status, p.id, u.id, u.firstName, u.lastName, u.profileImageUrl)
+              from Application a
+              join a.project p
+              left join a.applicant u
+              where a.id in :ids
+              order by a.id
+            """)
+    List<ApplicationListRow> findListRowsByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+              select new com.ehb.connected.domain.impl.applications.dto.ApplicationReviewRow(
+                  a.id, a.status, p.id, p.title, po.id, u.id, u.firstName, u.lastName, c.name, asg.name)
+              from Application a
+              join a.project p
+              join p.assignment asg
+              join asg.course c
+              left join p.productOwner po
+              left join a.applicant u
+              where a.id in :ids
+            """)
+    List<ApplicationReviewRow> findReviewRowsByIds(@Param("ids") Collection<Long> ids);
+
+    // Guarded on PENDING so a concurrent review shows up as a lower update count
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Application a set a.status = :status where a.id in :ids and a.status = com.ehb.connected.domain.impl.applications.entities.ApplicationStatusEnum.PENDING")
+    int updatePendingStatusByIds(@Param("ids") Collection<Long> ids, @Param("status") ApplicationStatusEnum status);
+
+    // Everything else the applicant has open in the assignment; keepApplicationId may be null (claiming a project)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+              update Application a
+              set a.status = com.ehb.connected.domain.impl.applications.entities.ApplicationStatusEnum.REJECTED
+              where a.applicant.id = :applicantId
+                and a.status <> com.ehb.connected.domain.impl.applications.entities.ApplicationStatusEnum.REJECTED
+                and (:keepApplicationId is null or a.id <> :keepApplicationId)
+                and a.project.id in (select p.id from Project p where p.assignment.id = :assignmentId)
+            """)
+    int rejectOpenApplicationsOfApplicantInAssignment(@Param("applicantId") Long applicantId,
+                                                      @Param("assignmentId") Long assignmentId,
+                                                      @Param("keepApplicationId") Long keepApplicationId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+              update Application a
+              set a.status = com.ehb.connected.domain.impl.applications.entities.ApplicationStatusEnum.REJECTED
+              where a.applicant.id in :applicantIds
+                and a.status <> com.ehb.connected.domain.impl.applications.entities.ApplicationStatusEnum.REJECTED
+                and a.project.id in (select p.id from Project p where p.assignment.id = :assignmentId)
+            """)
+    int rejectOpenApplicationsOfApplicantsInAssignment(@Param("applicantIds") Collection<Long> applicantIds,
+                                                       @Param("assignmentId") Long assignmentId);
+
+    // Row locks keep a concurrent review from changing these applications before they are updated
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+              select new com.ehb.connected.domain.impl.applications.dto.ApplicationApplicantRow(a.id, a.applicant.id)
+              from Application a
+              where a.project.id = :projectId
+                and a.status = com.ehb.connected.domain.impl.applications.entities.ApplicationStatusEnum.PENDING
+            """)
+    List<ApplicationApplicantRow> findPendingByProjectIdForUpdate(@Param("projectId") Long projectId);
+
+    @Query("""
+              select new com.ehb.connected.domain.impl.teamformation.dto.ApplicationPreferenceRow(a.applicant.id, p.id, a.status)
+              from Application a
+              join a.project p
+              where p.assignment.id = :assignmentId
+                and p.status = :projectStatus
+                and a.status <> com.ehb.connected.domain.impl.applications.entities.ApplicationStatusEnum.REJECTED
+                and a.applicant is not null
+            """)
+    List<ApplicationPreferenceRow> findPreferenceRowsByAssignmentId(@Param("assignmentId") Long assignmentId,
+                                                                    @Param("projectStatus") ProjectStatusEnum projectStatus);
 
     @Query("""
               select distinct a.applicant.id
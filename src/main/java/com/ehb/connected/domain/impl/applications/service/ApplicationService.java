@@ -2,15 +2,26 @@ package com.ehb.connected.domain.impl.applications.service;
 
 import com.ehb.connected.domain.impl.applications.dto.ApplicationCreateDto;
 import com.ehb.connected.domain.impl.applications.dto.ApplicationDetailsDto;
+import com.ehb.connected.domain.impl.applications.dto.ApplicationInboxPageDto;
+import com.ehb.connected.domain.impl.applications.dto.ApplicationListDto;
+import com.ehb.connected.domain.impl.applications.dto.ApplicationReviewDto;
+import com.ehb.connected.domain.impl.applications.dto.ApplicationSummaryDto;
 import com.ehb.connected.domain.impl.applications.entities.ApplicationStatusEnum;
 import org.springframework.security.core.Authentication;
 
 import java.util.List;
+import java.util.Set;
 
 public interface ApplicationService {
     ApplicationDetailsDto getById(Authentication authentication, Long id);
     ApplicationDetailsDto create(Authentication authentication, Long projectId, ApplicationCreateDto application);
     ApplicationDetailsDto reviewApplication(Authentication authentication, Long applicationId, ApplicationStatusEnum status);
+    List<ApplicationSummaryDto> reviewApplications(Authentication authentication, List<ApplicationReviewDto> reviews);
     List<ApplicationDetailsDto> getAllApplications(Authentication authentication, Long id);
+    List<ApplicationSummaryDto> getAllApplicationSummaries(Authentication authentication, Long assignmentId);
+    ApplicationListDto getApplicationList(Authentication authentication, Long assignmentId);
+    ApplicationInboxPageDto getInbox(Authentication authentication, Long assignmentId, Set<ApplicationStatusEnum> statuses, Long beforeId, int limit);
     ApplicationDetailsDto joinProject(Authentication authentication, Long applicationId);
+    // Joins the caller's transaction; rejects the remaining pending applications once the project has no free slot left
+    void rejectPendingApplicationsIfFull(Long projectId);
 }
@@ -1,7 +1,14 @@
 package com.ehb.connected.domain.impl.applications.service;
 
+import com.ehb.connected.domain.impl.applications.dto.ApplicationApplicantRow;
 import com.ehb.connected.domain.impl.applications.dto.ApplicationCreateDto;
 import com.ehb.connected.domain.impl.applications.dto.ApplicationDetailsDto;
+import com.ehb.connected.domain.impl.applications.dto.ApplicationInboxPageDto;
+import com.ehb.connected.domain.impl.applications.dto.ApplicationListDto;
+import com.ehb.connected.domain.impl.applications.dto.ApplicationListRow;
+import com.ehb.connected.domain.impl.applications.dto.ApplicationReviewDto;
+import com.ehb.connected.domain.impl.applications.dto.ApplicationReviewRow;
+import com.ehb.connected.domain.impl.applications.dto.ApplicationSummaryDto;
 import com.ehb.connected.domain.impl.applications.entities.Application;
 import com.ehb.connected.domain.impl.applications.entities.ApplicationStatusEnum;
 import com.ehb.connected.domain.impl.applications.mappers.ApplicationMapper;
@@ -9,46 +16,69 @@ import com.ehb.connected.domain.impl.applications.repositories.ApplicationReposi
 import com.ehb.connected.domain.impl.deadlines.entities.Deadline;
 import com.ehb.connected.domain.impl.deadlines.enums.DeadlineRestriction;
 import com.ehb.connected.domain.impl.deadlines.service.DeadlineService;
+import com.ehb.connected.domain.impl.notifications.dto.NotificationRequest;
 import com.ehb.connected.domain.impl.notifications.helpers.UrlHelper;
 import com.ehb.connected.domain.impl.notifications.service.NotificationService;
+import com.ehb.connected.domain.impl.projects.cache.ProjectCatalogChangedEvent;
+import com.ehb.connected.domain.impl.projects.dto.ProjectListItemDto;
 import com.ehb.connected.domain.impl.projects.entities.Project;
 import com.ehb.connected.domain.impl.projects.entities.ProjectStatusEnum;
 import com.ehb.connected.domain.impl.projects.events.entities.ProjectEventType;
 import com.ehb.connected.domain.impl.projects.events.service.ProjectEventService;
+import com.ehb.connected.domain.impl.projects.mappers.ProjectMapper;
+import com.ehb.connected.domain.impl.projects.repositories.ProjectRepository;
 import com.ehb.connected.domain.impl.projects.service.ProjectService;
 import com.ehb.connected.domain.impl.projects.service.ProjectUserService;
 import com.ehb.connected.domain.impl.users.entities.Role;
 import com.ehb.connected.domain.impl.users.entities.User;
+import com.ehb.connected.domain.impl.users.repositories.UserRepository;
 import com.ehb.connected.domain.impl.users.services.UserService;
 import com.ehb.connected.exceptions.BaseRuntimeException;
 import com.ehb.connected.exceptions.DeadlineExpiredException;
 import com.ehb.connected.exceptions.EntityNotFoundException;
 import com.ehb.connected.exceptions.UserNotOwnerOfProjectException;
 import com.ehb.connected.exceptions.UserUnauthorizedException;
+import com.ehb.connected.pagination.KeysetPage;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ApplicationServiceImpl implements ApplicationService {
 
+    private static final int MAX_BULK_REVIEW_SIZE = 200;
+    private static final int MAX_INBOX_PAGE_SIZE = 100;
+
     private final UserService userService;
+    private final UserRepository userRepository;
 
     private final ApplicationRepository applicationRepository;
+    private final ProjectRepository projectRepository;
     private final ProjectService projectService;
     private final DeadlineService deadlineService;
     private final ApplicationMapper applicationMapper;
+    private final ProjectMapper projectMapper;
     private final NotificationService notificationService;
 
     private final ProjectUserService projectUserService;
     private final ProjectEventService projectEventService;
+    private final ApplicationEventPublisher eventPublisher;
 
     private final Logger logger = LoggerFactory.getLogger(ApplicationServiceImpl.class);
 
@@ -94,6 +124,7 @@ public class ApplicationServiceImpl implements ApplicationService {
         }
     }
 
+    @Transactional
     @Override
     public ApplicationDetailsDto create(Authentication authentication, Long projectId, ApplicationCreateDto applicationDto) {
 
@@ -120,9 +151,10 @@ public class ApplicationServiceImpl implements ApplicationService {
                 project.getId().toString(),
                 "applications");
 
-        notificationService.createNotification(
+        notificationService.createCoalescingNotification(
                 project.getProductOwner(),
                 user.getFullName() + " applied for your project.",
+                "%d students applied for your project.",
                 destinationUrl
         );
 
@@ -133,7 +165,7 @@ public class ApplicationServiceImpl implements ApplicationService {
     public List<ApplicationDetailsDto> getAllApplications(Authentication authentication, Long assignmentId) {
         User user = userService.getUserByAuthentication(authentication);
         if (user.hasRole(Role.STUDENT)) {
-            return applicationMapper.toDtoList(applicationRepository.findAllApplicationsByUserIdOrProjectProductOwnerAndAssignment(user.getId(), assignmentId));
+            return applicationMapper.toDtoList(applicationRepository.findAllById(applicationRepository.findInboxIds(user.getId(), assignmentId)));
         } else if (user.hasRole(Role.TEACHER)) {
             return applicationMapper.toDtoList(applicationRepository.findAllApplicationsByAssignmentId(assignmentId));
         } else {
@@ -141,6 +173,66 @@ public class ApplicationServiceImpl implements ApplicationService {
         }
     }
 
+    @Override
+    public List<ApplicationSummaryDto> getAllApplicationSummaries(Authentication authentication, Long assignmentId) {
+        User user = userService.getUserByAuthentication(authentication);
+        if (user.hasRole(Role.STUDENT)) {
+            final List<Long> ids = applicationRepository.findInboxIds(user.getId(), assignmentId);
+            return ids.isEmpty() ? List.of() : applicationRepository.findSummariesByIdsOldestFirst(ids);
+        } else if (user.hasRole(Role.TEACHER)) {
+            return applicationRepository.findSummariesByAssignmentId(assignmentId);
+        } else {
+            throw new UserUnauthorizedException(user.getId());
+        }
+    }
+
+    @Override
+    public ApplicationListDto getApplicationList(Authentication authentication, Long assignmentId) {
+        User user = userService.getUserByAuthentication(authentication);
+        final List<ApplicationListRow> rows;
+        if (user.hasRole(Role.STUDENT)) {
+            final List<Long> ids = applicationRepository.findInboxIds(user.getId(), assignmentId);
+            rows = ids.isEmpty() ? List.of() : applicationRepository.findListRowsByIds(ids);
+        } else if (user.hasRole(Role.TEACHER)) {
+            rows = applicationRepository.findListRowsByAssignmentId(assignmentId);
+        } else {
+            throw new UserUnauthorizedException(user.getId());
+        }
+
+        // Each project is loaded and mapped once, however many applications point at it
+        final List<Long> projectIds = rows.stream().map(ApplicationListRow::projectId).distinct().toList();
+        final List<ProjectListItemDto> projects = projectIds.isEmpty() ? List.of() : projectMapper.toListItems(
+                projectRepository.findSummaryRowsByIds(projectIds),
+                projectRepository.findMemberSummaryRowsByProjectIds(projectIds));
+        return applicationMapper.toListDto(rows, projects);
+    }
+
+    @Override
+    public ApplicationInboxPageDto getInbox(Authentication authentication, Long assignmentId, Set<ApplicationStatusEnum> statuses,
+                                            Long beforeId, int limit) {
+        final User user = userService.getUserByAuthentication(authentication);
+        final Set<ApplicationStatusEnum> effectiveStatuses = statuses == null || statuses.isEmpty()
+                ? EnumSet.allOf(ApplicationStatusEnum.class) : statuses;
+        final long cursor = beforeId != null ? beforeId : Long.MAX_VALUE;
+        final int pageSize = Math.clamp(limit, 1, MAX_INBOX_PAGE_SIZE);
+
+        final List<ApplicationSummaryDto> rows;
+        if (user.hasRole(Role.STUDENT)) {
+            final List<Long> ids = applicationRepository.findInboxPageIds(user.getId(), assignmentId,
+                    effectiveStatuses.stream().map(Enum::name).toList(), cursor, KeysetPage.fetchSize(pageSize));
+            rows = ids.isEmpty() ? List.of() : applicationRepository.findSummariesByIdsNewestFirst(ids);
+        } else if (user.hasRole(Role.TEACHER)) {
+            rows = applicationRepository.findSummaryPageByAssignmentId(assignmentId, effectiveStatuses, cursor, KeysetPage.fetchLimit(pageSize));
+        } else {
+            throw new UserUnauthorizedException(user.getId());
+        }
+
+        final KeysetPage<ApplicationSummaryDto> page = KeysetPage.of(rows, pageSize);
+        final ApplicationSummaryDto next = page.nextCursor();
+        return new ApplicationInboxPageDto(page.items(), page.hasMore(), next != null ? next.id() : null);
+    }
+
+    @Transactional
     @Override
     public ApplicationDetailsDto reviewApplication(Authentication authentication, Long applicationId, ApplicationStatusEnum status) {
         Application application = applicationRepository.findById(applicationId)
@@ -179,6 +271,77 @@ public class ApplicationServiceImpl implements ApplicationService {
         return applicationMapper.toDto(application);
     }
 
+    @Transactional
+    @Override
+    public List<ApplicationSummaryDto> reviewApplications(Authentication authentication, List<ApplicationReviewDto> reviews) {
+        if (reviews == null || reviews.isEmpty()) {
+            throw new BaseRuntimeException("No applications to review", HttpStatus.BAD_REQUEST);
+        }
+        if (reviews.size() > MAX_BULK_REVIEW_SIZE) {
+            throw new BaseRuntimeException("At most " + MAX_BULK_REVIEW_SIZE + " applications can be reviewed at once", HttpStatus.BAD_REQUEST);
+        }
+        final Map<Long, ApplicationStatusEnum> statusById = new LinkedHashMap<>();
+        for (ApplicationReviewDto review : reviews) {
+            if (review == null || review.applicationId() == null || review.status() == null) {
+                throw new BaseRuntimeException("Every review needs an applicationId and a status", HttpStatus.BAD_REQUEST);
+            }
+            if (review.status() == ApplicationStatusEnum.PENDING) {
+                throw new BaseRuntimeException("Applications can only be approved or rejected", HttpStatus.BAD_REQUEST);
+            }
+            if (statusById.put(review.applicationId(), review.status()) != null) {
+                throw new BaseRuntimeException("Application " + review.applicationId() + " is listed more than once", HttpStatus.BAD_REQUEST);
+            }
+        }
+        final User user = userService.getUserByAuthentication(authentication);
+
+        // Ownership, state and notification data for every application in one query
+        final Map<Long, ApplicationReviewRow> rows = applicationRepository.findReviewRowsByIds(statusById.keySet()).stream()
+                .collect(Collectors.toMap(ApplicationReviewRow::id, Function.identity()));
+        for (Long applicationId : statusById.keySet()) {
+            ApplicationReviewRow row = rows.get(applicationId);
+            if (row == null) {
+                throw new EntityNotFoundException(Application.class, applicationId);
+            }
+            if (!Objects.equals(row.productOwnerId(), user.getId())) {
+                throw new UserNotOwnerOfProjectException();
+            }
+            if (row.status() != ApplicationStatusEnum.PENDING) {
+                throw new BaseRuntimeException("Application " + applicationId + " has already been reviewed", HttpStatus.CONFLICT);
+            }
+        }
+
+        // One UPDATE per target status
+        final Map<ApplicationStatusEnum, List<Long>> idsByStatus = statusById.entrySet().stream()
+                .collect(Collectors.groupingBy(Map.Entry::getValue, Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+        idsByStatus.forEach((status, ids) -> {
+            if (applicationRepository.updatePendingStatusByIds(ids, status) != ids.size()) {
+                throw new BaseRuntimeException("Some applications were reviewed concurrently, please reload", HttpStatus.CONFLICT);
+            }
+        });
+
+        final List<NotificationRequest> notifications = new ArrayList<>();
+        final List<ApplicationSummaryDto> reviewed = new ArrayList<>(statusById.size());
+        statusById.forEach((applicationId, status) -> {
+            ApplicationReviewRow row = rows.get(applicationId);
+            if (row.applicantId() != null) {
+                String destinationUrl = UrlHelper.buildCourseAssignmentUrl(
+                        UrlHelper.sluggify(row.courseName()),
+                        UrlHelper.sluggify(row.assignmentName()),
+                        "applications", applicationId.toString());
+                notifications.add(new NotificationRequest(
+                        userRepository.getReferenceById(row.applicantId()),
+                        "your application for project " + row.projectTitle() + " has been " + status.toString().toLowerCase(),
+                        destinationUrl));
+            }
+            reviewed.add(new ApplicationSummaryDto(applicationId, status, row.projectId(), row.projectTitle(),
+                    row.applicantId(), row.applicantFirstName(), row.applicantLastName()));
+        });
+        notificationService.createNotifications(notifications);
+
+        logger.info("[{}] User [{}] reviewed {} applications", ApplicationService.class.getSimpleName(), user.getId(), reviewed.size());
+        return reviewed;
+    }
+
     @Transactional
     @Override
     public ApplicationDetailsDto joinProject(Authentication authentication, Long applicationId) {
@@ -200,7 +363,6 @@ public class ApplicationServiceImpl implements ApplicationService {
             throw new BaseRuntimeException("User is already a member of a project in this assignment", HttpStatus.CONFLICT);
         }
 
-        List<User> members = project.getMembers();
         //check if project is full
         if (project.hasReachedMaxMembers()) {
             throw new BaseRuntimeException("Project is full", HttpStatus.CONFLICT);
@@ -208,22 +370,26 @@ public class ApplicationServiceImpl implements ApplicationService {
 
         //reject all other applications for the same applicant
         rejectAllOtherApplications(application);
-        members.add(user);
-        project.setMembers(members);
 
-        // If the project has now reached its maximum members, reject all remaining pending applications
-        if (project.hasReachedMaxMembers()) {
-            project.getApplications().stream()
-                    .filter(app -> app.hasStatus(ApplicationStatusEnum.PENDING))
-                    // TODO This will need a new status
-                    .forEach(app -> app.setStatus(ApplicationStatusEnum.REJECTED));
+        // Take a slot atomically, the check above is only a fast path and may be stale under contention
+        if (projectRepository.reserveMemberSlot(project.getId()) == 0) {
+            throw new BaseRuntimeException("Project is full", HttpStatus.CONFLICT);
         }
+        projectRepository.insertMember(project.getId(), user.getId());
+        projectUserService.addMembership(project, user.getId());
 
-        projectEventService.logEvent(project.getId(), user.getId(), ProjectEventType.USER_JOINED, "Joined");
+        // If the project has now reached its maximum members, reject all remaining pending applications
+        rejectPendingApplicationsIfFull(project.getId());
+
+        // The bulk updates cleared the persistence context, continue with fresh state
+        application = applicationRepository.findById(applicationId)
+                .orElseThrow(() -> new EntityNotFoundException(Application.class, applicationId));
+        project = application.getProject();
 
-        projectService.save(project);
+        projectEventService.logEvent(project.getId(), user.getId(), ProjectEventType.USER_JOINED, "Joined");
 
         logger.info("User [{}] has joined project [{}] based on approved application [{}]", user.getId(), project.getId(), applicationId);
+        eventPublisher.publishEvent(new ProjectCatalogChangedEvent(project.getAssignment().getId()));
 
         String destinationUrl = UrlHelper.buildCourseAssignmentUrl(
                 UrlHelper.sluggify(project.getAssignment().getCourse().getName()),
@@ -240,11 +406,45 @@ public class ApplicationServiceImpl implements ApplicationService {
     }
 
     private void rejectAllOtherApplications(Application application) {
-        applicationRepository.findByApplicantInAssignment(
-                        application.getProject().getAssignment().getId(),
-                        application.getApplicant()
-                ).stream()
-                .filter(otherApplication -> !otherApplication.equals(application))
-                .forEach(otherApplication -> otherApplication.setStatus(ApplicationStatusEnum.REJECTED));
+        applicationRepository.rejectOpenApplicationsOfApplicantInAssignment(
+                application.getApplicant().getId(),
+                application.getProject().getAssignment().getId(),
+                application.getId());
+    }
+
+    @Transactional
+    @Override
+    public void rejectPendingApplicationsIfFull(Long projectId) {
+        projectRepository.findById(projectId)
+                .filter(Project::hasReachedMaxMembers)
+                .ifPresent(this::rejectPendingApplicationsOfFullProject);
+    }
+
+    private void rejectPendingApplicationsOfFullProject(Project project) {
+        final List<ApplicationApplicantRow> pending = applicationRepository.findPendingByProjectIdForUpdate(project.getId());
+        if (pending.isEmpty()) {
+            return;
+        }
+        // The rows are locked, so every one of them is still pending and the update count matches
+        final int rejected = applicationRepository.updatePendingStatusByIds(
+                pending.stream().map(ApplicationApplicantRow::id).toList(), ApplicationStatusEnum.REJECTED);
+        logger.info("[{}] Rejected {} pending applications of full project [{}]",
+                ApplicationService.class.getSimpleName(), rejected, project.getId());
+        final List<Long> applicantIds = pending.stream()
+                .map(ApplicationApplicantRow::applicantId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        final String destinationUrl = UrlHelper.buildCourseAssignmentUrl(
+                UrlHelper.sluggify(project.getAssignment().getCourse().getName()),
+                UrlHelper.sluggify(project.getAssignment().getName()),
+                "projects", project.getId().toString());
+        notificationService.createNotifications(applicantIds.stream()
+                .map(applicantId -> new NotificationRequest(
+                        userRepository.getReferenceById(applicantId),
+                        "Project " + project.getTitle() + " is full, your application has been rejected",
+                        destinationUrl))
+                .toList());
     }
 }
@@ -4,13 +4,24 @@ import com.ehb.connected.domain.impl.announcements.dto.AnnouncementCreateDto;
 import com.ehb.connected.domain.impl.announcements.dto.AnnouncementDetailsDto;
 import com.ehb.connected.domain.impl.announcements.service.AnnouncementService;
 import com.ehb.connected.domain.impl.applications.dto.ApplicationDetailsDto;
+import com.ehb.connected.domain.impl.applications.dto.ApplicationInboxPageDto;
+import com.ehb.connected.domain.impl.applications.dto.ApplicationListDto;
+import com.ehb.connected.domain.impl.applications.dto.ApplicationSummaryDto;
+import com.ehb.connected.domain.impl.applications.entities.ApplicationStatusEnum;
 import com.ehb.connected.domain.impl.applications.service.ApplicationService;
+import com.ehb.connected.domain.impl.assignments.dto.AssignmentActivityDayDto;
 import com.ehb.connected.domain.impl.assignments.dto.AssignmentCreateDto;
 import com.ehb.connected.domain.impl.assignments.dto.AssignmentDetailsDto;
 import com.ehb.connected.domain.impl.assignments.dto.DashboardDetailsDto;
 import com.ehb.connected.domain.impl.assignments.service.AssignmentServiceImpl;
 import com.ehb.connected.domain.impl.dashboard.service.DashboardServiceImpl;
+import com.ehb.connected.domain.impl.teamformation.dto.TeamFormationCommitResultDto;
+import com.ehb.connected.domain.impl.teamformation.dto.TeamFormationPreviewDto;
+import com.ehb.connected.domain.impl.teamformation.dto.TeamPlacementDto;
+import com.ehb.connected.domain.impl.teamformation.service.TeamFormationService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -20,9 +31,12 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/assignments")
@@ -32,6 +46,7 @@ public class AssignmentController {
     private final ApplicationService applicationService;
     private final AnnouncementService announcementService;
     private final DashboardServiceImpl dashboardServiceImpl;
+    private final TeamFormationService teamFormationService;
 
     @PreAuthorize("hasAnyAuthority('canvas:sync')")
     @PostMapping("/canvas/{courseId}")
@@ -59,6 +74,27 @@ public class AssignmentController {
         return ResponseEntity.ok(applicationService.getAllApplications(authentication, assignmentId));
     }
 
+    @PreAuthorize("hasAnyAuthority('application:read_all')")
+    @GetMapping("/{assignmentId}/applications/summary")
+    public ResponseEntity<List<ApplicationSummaryDto>> getAllApplicationSummaries(Authentication authentication, @PathVariable Long assignmentId){
+        return ResponseEntity.ok(applicationService.getAllApplicationSummaries(authentication, assignmentId));
+    }
+
+    @PreAuthorize("hasAnyAuthority('application:read_all')")
+    @GetMapping("/{assignmentId}/applications/compact")
+    public ResponseEntity<ApplicationListDto> getApplicationList(Authentication authentication, @PathVariable Long assignmentId){
+        return ResponseEntity.ok(applicationService.getApplicationList(authentication, assignmentId));
+    }
+
+    @PreAuthorize("hasAnyAuthority('application:read_all')")
+    @GetMapping("/{assignmentId}/applications/inbox")
+    public ResponseEntity<ApplicationInboxPageDto> getApplicationInbox(Authentication authentication, @PathVariable Long assignmentId,
+                                                                       @RequestParam(required = false) Set<ApplicationStatusEnum> status,
+                                                                       @RequestParam(required = false) Long beforeId,
+                                                                       @RequestParam(defaultValue = "20") int limit){
+        return ResponseEntity.ok(applicationService.getInbox(authentication, assignmentId, status, beforeId, limit));
+    }
+
     @PreAuthorize("hasAnyAuthority('announcement:create')")
     @PostMapping("/{assignmentId}/announcements")
     public ResponseEntity<AnnouncementDetailsDto> createAnnouncement(Authentication authentication, @PathVariable Long assignmentId, @RequestBody AnnouncementCreateDto announcement) {
@@ -79,4 +115,27 @@ public class AssignmentController {
         DashboardDetailsDto dashboard = dashboardServiceImpl.getDashboardDetails(assignmentId);
         return ResponseEntity.ok(dashboard);
     }
+
+    @PreAuthorize("hasAnyAuthority('dashboard:read')")
+    @GetMapping("/{assignmentId}/activity")
+    public ResponseEntity<List<AssignmentActivityDayDto>> getActivity(
+            @PathVariable Long assignmentId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return ResponseEntity.ok(dashboardServiceImpl.getActivity(assignmentId, from, to));
+    }
+
+    @PreAuthorize("hasAnyAuthority('dashboard:read')")
+    @GetMapping("/{assignmentId}/team-formation/preview")
+    public ResponseEntity<TeamFormationPreviewDto> previewTeamFormation(@PathVariable Long assignmentId) {
+        return ResponseEntity.ok(teamFormationService.preview(assignmentId));
+    }
+
+    @PreAuthorize("hasAnyAuthority('assignment:update')")
+    @PostMapping("/{assignmentId}/team-formation/commit")
+    public ResponseEntity<TeamFormationCommitResultDto> commitTeamFormation(Authentication authentication, @PathVariable Long assignmentId,
+                                                                            @RequestBody List<@Valid TeamPlacementDto> placements) {
+        return ResponseEntity.ok(teamFormationService.commit(authentication, assignmentId, placements));
+    }
 }
@@ -0,0 +1,9 @@
+package com.ehb.connected.domain.impl.assignments.dto;
+
+import com.ehb.connected.domain.impl.projects.events.entities.ProjectEventType;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+public record AssignmentActivityDayDto(LocalDate date, Map<ProjectEventType, Long> counts) {
+}
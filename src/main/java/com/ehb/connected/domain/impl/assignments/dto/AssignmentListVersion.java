@@ -0,0 +1,4 @@
+package com.ehb.connected.domain.impl.assignments.dto;
+
+public record AssignmentListVersion(Long count, Long versionSum, Long maxId) {
+}
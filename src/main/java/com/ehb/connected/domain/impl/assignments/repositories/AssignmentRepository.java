@@ -1,7 +1,10 @@
 package com.ehb.connected.domain.impl.assignments.repositories;
 
 import com.ehb.connected.domain.impl.assignments.entities.Assignment;
+import com.ehb.connected.domain.impl.assignments.dto.AssignmentListVersion;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,6 +13,15 @@ import java.util.Optional;
 @Repository
 public interface AssignmentRepository extends JpaRepository<Assignment, Long> {
     List<Assignment> findByCourseId(Long courseId);
+
+    // Changes whenever an assignment of the course is added, removed or updated
+    @Query("""
+              select new com.ehb.connected.domain.impl.assignments.dto.AssignmentListVersion(
+                  count(a), coalesce(sum(a.version), 0L), coalesce(max(a.id), 0L))
+              from Assignment a
+              where a.course.id = :courseId
+            """)
+    AssignmentListVersion findListVersionByCourseId(@Param("courseId") Long courseId);
     Optional<Assignment> findByCanvasId(Long canvasId);
     boolean existsByCanvasId(Long canvasId);
 }
@@ -11,5 +11,6 @@ public interface AssignmentService {
     AssignmentDetailsDto createAssignment(AssignmentCreateDto assignmentDto);
     Assignment getAssignmentById(Long assignmentId);
     List<AssignmentDetailsDto> getAllAssignmentsByCourse(Long courseId);
+    String getAssignmentsETag(Long courseId);
     List<AssignmentDetailsDto> getNewAssignmentsFromCanvas(Authentication authentication, Long courseId);
 }
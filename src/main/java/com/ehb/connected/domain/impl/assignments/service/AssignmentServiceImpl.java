@@ -2,6 +2,7 @@ package com.ehb.connected.domain.impl.assignments.service;
 
 import com.ehb.connected.domain.impl.assignments.dto.AssignmentCreateDto;
 import com.ehb.connected.domain.impl.assignments.dto.AssignmentDetailsDto;
+import com.ehb.connected.domain.impl.assignments.dto.AssignmentListVersion;
 import com.ehb.connected.domain.impl.assignments.entities.Assignment;
 import com.ehb.connected.domain.impl.assignments.mappers.AssignmentMapper;
 import com.ehb.connected.domain.impl.assignments.repositories.AssignmentRepository;
@@ -47,6 +48,12 @@ public class AssignmentServiceImpl implements AssignmentService {
         return assignmentMapper.toAssignmentDetailsDtoList(assignmentRepository.findByCourseId(courseId));
     }
 
+    @Override
+    public String getAssignmentsETag(Long courseId) {
+        AssignmentListVersion version = assignmentRepository.findListVersionByCourseId(courseId);
+        return "\"course-" + courseId + "-assignments-" + version.count() + "-" + version.versionSum() + "-" + version.maxId() + "\"";
+    }
+
     //TODO: Check .block() usage and refactor to avoid blocking calls.
     @Override
     public List<AssignmentDetailsDto> getNewAssignmentsFromCanvas(Authentication authentication, Long courseId) {
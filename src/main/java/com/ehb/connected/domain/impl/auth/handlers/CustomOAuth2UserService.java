@@ -6,9 +6,11 @@ import com.ehb.connected.domain.impl.auth.security.UserPrincipal;
 import com.ehb.connected.domain.impl.canvas.entities.CanvasAttributes;
 import com.ehb.connected.domain.impl.users.Factories.UserFactory;
 import com.ehb.connected.domain.impl.users.entities.User;
+import com.ehb.connected.domain.impl.users.events.UserProfileChangedEvent;
 import com.ehb.connected.domain.impl.users.repositories.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
@@ -25,6 +27,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final UserRepository userRepository;
     private final UserFactory userFactory;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
@@ -42,10 +45,14 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
                 .orElseGet(() -> userFactory.newCanvasUser(canvasAttributes));
 
         // Sync user details from Canvas with local user
-        syncCanvasAttributes(user, canvasAttributes);
+        boolean existing = user.getId() != null;
+        boolean updated = syncCanvasAttributes(user, canvasAttributes);
 
         // Persist
         user = userRepository.save(user);
+        if (existing && updated) {
+            eventPublisher.publishEvent(new UserProfileChangedEvent(user.getId()));
+        }
 
         String nameAttrKey = userRequest.getClientRegistration()
                 .getProviderDetails()
@@ -61,7 +68,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
         return new CustomOAuth2User(userPrincipal, attributes, nameAttrKey);
     }
 
-    private void syncCanvasAttributes(User user, CanvasAttributes canvasAttributes) {
+    private boolean syncCanvasAttributes(User user, CanvasAttributes canvasAttributes) {
         boolean updated = false;
 
         if (!Objects.equals(canvasAttributes.getFirstName(), user.getFirstName())) {
@@ -82,5 +89,6 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
         if (updated) {
             log.info("Updated user [{}] details from Canvas", user.getCanvasUserId());
         }
+        return updated;
     }
 }
\ No newline at end of file
@@ -5,6 +5,8 @@ import com.ehb.connected.domain.impl.assignments.service.AssignmentService;
 import com.ehb.connected.domain.impl.courses.dto.CourseCreateDto;
 import com.ehb.connected.domain.impl.courses.dto.CourseDetailsDto;
 import com.ehb.connected.domain.impl.courses.services.CourseService;
+import com.ehb.connected.domain.impl.teamformation.dto.TeamFormationPreviewDto;
+import com.ehb.connected.domain.impl.teamformation.service.TeamFormationService;
 import com.ehb.connected.domain.impl.users.dto.UserDetailsDto;
 import com.ehb.connected.domain.impl.users.services.UserService;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +20,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 
 import java.util.List;
@@ -30,6 +33,7 @@ public class CourseController {
     private final CourseService courseService;
     private final AssignmentService assignmentService;
     private final UserService userService;
+    private final TeamFormationService teamFormationService;
 
     //@PreAuthorize("hasAnyAuthority('canvas:sync')")
     @PostMapping("/canvas")
@@ -59,8 +63,12 @@ public class CourseController {
 
     @PreAuthorize("hasAnyAuthority('assignment:read_all')")
     @GetMapping("/{courseId}/assignments")
-    public ResponseEntity<List<AssignmentDetailsDto>> getAllAssignmentsByCourse(@PathVariable Long courseId) {
-        return ResponseEntity.ok(assignmentService.getAllAssignmentsByCourse(courseId));
+    public ResponseEntity<List<AssignmentDetailsDto>> getAllAssignmentsByCourse(@PathVariable Long courseId, WebRequest request) {
+        String eTag = assignmentService.getAssignmentsETag(courseId);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(assignmentService.getAllAssignmentsByCourse(courseId));
     }
 
     @PreAuthorize("hasAnyAuthority('course:view_students')")
@@ -81,4 +89,10 @@ public class CourseController {
     public ResponseEntity<CourseDetailsDto> refreshEnrollments(Authentication authentication, @PathVariable Long courseId) {
         return ResponseEntity.ok(courseService.refreshEnrollments(authentication, courseId));
     }
+
+    @PreAuthorize("hasAnyAuthority('dashboard:read')")
+    @GetMapping("/{courseId}/team-formation/preview")
+    public ResponseEntity<List<TeamFormationPreviewDto>> previewTeamFormation(@PathVariable Long courseId) {
+        return ResponseEntity.ok(teamFormationService.previewCourse(courseId));
+    }
 }
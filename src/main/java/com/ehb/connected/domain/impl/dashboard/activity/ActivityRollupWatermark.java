@@ -0,0 +1,33 @@
+package com.ehb.connected.domain.impl.dashboard.activity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Single-row progress marker of the activity rollup. Events up to {@code lastEventId} are counted;
+ * {@code pendingMaxEventId} is the max id seen on the previous run, the next upper bound to process.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "activity_rollup_watermark")
+public class ActivityRollupWatermark {
+    public static final Long ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(name = "last_event_id", nullable = false)
+    private long lastEventId;
+
+    @Column(name = "pending_max_event_id", nullable = false)
+    private long pendingMaxEventId;
+}
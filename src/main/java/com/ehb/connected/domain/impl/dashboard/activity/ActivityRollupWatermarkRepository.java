@@ -0,0 +1,18 @@
+package com.ehb.connected.domain.impl.dashboard.activity;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ActivityRollupWatermarkRepository extends JpaRepository<ActivityRollupWatermark, Long> {
+    // Row lock serializes rollup runs across instances
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select w from ActivityRollupWatermark w where w.id = :id")
+    Optional<ActivityRollupWatermark> findForUpdate(@Param("id") Long id);
+}
@@ -0,0 +1,27 @@
+package com.ehb.connected.domain.impl.dashboard.activity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Number of project events of one type for an assignment on one day.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "assignment_activity_daily")
+public class AssignmentActivityDaily {
+    @EmbeddedId
+    private AssignmentActivityDailyId id;
+
+    @Column(name = "event_count", nullable = false)
+    private long eventCount;
+}
@@ -0,0 +1,31 @@
+package com.ehb.connected.domain.impl.dashboard.activity;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface AssignmentActivityDailyRepository extends JpaRepository<AssignmentActivityDaily, AssignmentActivityDailyId> {
+    List<AssignmentActivityDaily> findAllByIdAssignmentIdAndIdActivityDateBetweenOrderByIdActivityDateAsc(Long assignmentId, LocalDate from, LocalDate to);
+
+    // Adds the counts of events in (fromId, toId] to the rollup; the PK range scan keeps each chunk cheap
+    @Modifying
+    @Query(value = """
+              insert into assignment_activity_daily (assignment_id, activity_date, type, event_count)
+              select * from (
+                select p.assignment_id, date(e.timestamp) as activity_date, e.type, count(*) as delta_count
+                from project_events e
+                join projects p on p.id = e.project_id
+                where e.id > :fromId and e.id <= :toId
+                  and p.assignment_id is not null
+                group by p.assignment_id, date(e.timestamp), e.type
+              ) as delta
+              on duplicate key update event_count = assignment_activity_daily.event_count + delta.delta_count
+            """, nativeQuery = true)
+    int accumulate(@Param("fromId") long fromId, @Param("toId") long toId);
+}
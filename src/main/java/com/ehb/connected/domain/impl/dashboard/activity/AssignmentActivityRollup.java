@@ -0,0 +1,42 @@
+package com.ehb.connected.domain.impl.dashboard.activity;
+
+import com.ehb.connected.domain.impl.projects.events.repositories.ProjectEventRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Folds new project events into assignment_activity_daily, one id range per transaction.
+ */
+@Component
+@RequiredArgsConstructor
+public class AssignmentActivityRollup {
+
+    private static final long CHUNK_SIZE = 10_000;
+
+    private final ActivityRollupWatermarkRepository watermarkRepository;
+    private final AssignmentActivityDailyRepository dailyRepository;
+    private final ProjectEventRepository projectEventRepository;
+
+    /**
+     * Processes the next chunk of events and returns whether more work is ready.
+     * Only ids seen on a previous run are processed, which gives inserts from the write-behind sink a full
+     * interval to commit. An insert whose transaction stays open longer than that can still end up below
+     * the watermark and is then not counted.
+     */
+    @Transactional
+    public boolean rollupNextChunk() {
+        final ActivityRollupWatermark watermark = watermarkRepository.findForUpdate(ActivityRollupWatermark.ID)
+                .orElseGet(() -> watermarkRepository.save(new ActivityRollupWatermark(ActivityRollupWatermark.ID, 0, 0)));
+
+        if (watermark.getLastEventId() >= watermark.getPendingMaxEventId()) {
+            watermark.setPendingMaxEventId(projectEventRepository.findMaxId());
+            return false;
+        }
+
+        final long toId = Math.min(watermark.getLastEventId() + CHUNK_SIZE, watermark.getPendingMaxEventId());
+        dailyRepository.accumulate(watermark.getLastEventId(), toId);
+        watermark.setLastEventId(toId);
+        return toId < watermark.getPendingMaxEventId();
+    }
+}
@@ -0,0 +1,35 @@
+package com.ehb.connected.domain.impl.dashboard.activity;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(prefix = "connected.activity-rollup", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class AssignmentActivityRollupJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(AssignmentActivityRollupJob.class);
+
+    private final AssignmentActivityRollup rollup;
+
+    @Scheduled(fixedDelayString = "${connected.activity-rollup.interval:PT1M}")
+    public void run() {
+        long start = System.currentTimeMillis();
+        int chunks = 0;
+        try {
+            while (rollup.rollupNextChunk()) {
+                chunks++;
+            }
+        } catch (RuntimeException e) {
+            logger.error("[{}] Activity rollup failed after {} chunks", AssignmentActivityRollupJob.class.getSimpleName(), chunks, e);
+            return;
+        }
+        if (chunks > 0) {
+            logger.info("[{}] Rolled up {} chunks in {} ms", AssignmentActivityRollupJob.class.getSimpleName(), chunks, System.currentTimeMillis() - start);
+        }
+    }
+}
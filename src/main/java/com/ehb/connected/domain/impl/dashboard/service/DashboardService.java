@@ -1,7 +1,12 @@
 package com.ehb.connected.domain.impl.dashboard.service;
 
+import com.ehb.connected.domain.impl.assignments.dto.AssignmentActivityDayDto;
 import com.ehb.connected.domain.impl.assignments.dto.DashboardDetailsDto;
 
+import java.time.LocalDate;
+import java.util.List;
+
 public interface DashboardService {
     DashboardDetailsDto getDashboardDetails(Long assignmentId);
+    List<AssignmentActivityDayDto> getActivity(Long assignmentId, LocalDate from, LocalDate to);
 }
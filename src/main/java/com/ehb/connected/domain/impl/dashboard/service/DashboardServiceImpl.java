@@ -1,34 +1,50 @@
 package com.ehb.connected.domain.impl.dashboard.service;
 
 import com.ehb.connected.domain.impl.applications.repositories.ApplicationRepository;
+import com.ehb.connected.domain.impl.assignments.dto.AssignmentActivityDayDto;
 import com.ehb.connected.domain.impl.assignments.dto.DashboardDetailsDto;
 import com.ehb.connected.domain.impl.assignments.entities.Assignment;
 import com.ehb.connected.domain.impl.assignments.repositories.AssignmentRepository;
+import com.ehb.connected.domain.impl.dashboard.activity.AssignmentActivityDaily;
+import com.ehb.connected.domain.impl.dashboard.activity.AssignmentActivityDailyRepository;
 import com.ehb.connected.domain.impl.enrollments.repositories.EnrollmentRepository;
 import com.ehb.connected.domain.impl.projects.dto.ProjectSummaryDto;
 import com.ehb.connected.domain.impl.projects.entities.Project;
 import com.ehb.connected.domain.impl.projects.entities.ProjectStatusEnum;
+import com.ehb.connected.domain.impl.projects.events.entities.ProjectEventType;
 import com.ehb.connected.domain.impl.projects.repositories.ProjectRepository;
 import com.ehb.connected.domain.impl.users.dto.UserSummaryDto;
 import com.ehb.connected.domain.impl.users.repositories.UserRepository;
 import com.ehb.connected.domain.impl.users.services.UserService;
+import com.ehb.connected.exceptions.BaseRuntimeException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 @Service
 @RequiredArgsConstructor
 public class DashboardServiceImpl implements DashboardService {
 
+    private static final int DEFAULT_ACTIVITY_DAYS = 30;
+    private static final int MAX_ACTIVITY_DAYS = 366;
+
     private final AssignmentRepository assignmentRepository;
     private final ProjectRepository projectRepository;
     private final ApplicationRepository applicationRepository;
     private final EnrollmentRepository enrollmentRepository;
     private final UserRepository userRepository;
     private final UserService userService;
+    private final AssignmentActivityDailyRepository activityDailyRepository;
 
     @Override
     @Transactional(Transactional.TxType.SUPPORTS)
@@ -117,4 +133,30 @@ public class DashboardServiceImpl implements DashboardService {
             return s;
         }).toList();
     }
+
+    @Override
+    public List<AssignmentActivityDayDto> getActivity(Long assignmentId, LocalDate from, LocalDate to) {
+        final LocalDate end = to != null ? to : LocalDate.now();
+        final LocalDate start = from != null ? from : end.minusDays(DEFAULT_ACTIVITY_DAYS - 1);
+        if (start.isAfter(end)) {
+            throw new BaseRuntimeException("from must not be after to", HttpStatus.BAD_REQUEST);
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= MAX_ACTIVITY_DAYS) {
+            throw new BaseRuntimeException("Activity range is limited to " + MAX_ACTIVITY_DAYS + " days", HttpStatus.BAD_REQUEST);
+        }
+
+        // One entry per day so charts get a continuous series, days without events stay empty
+        final Map<LocalDate, Map<ProjectEventType, Long>> days = new TreeMap<>();
+        for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(1)) {
+            days.put(day, new EnumMap<>(ProjectEventType.class));
+        }
+        for (AssignmentActivityDaily row : activityDailyRepository
+                .findAllByIdAssignmentIdAndIdActivityDateBetweenOrderByIdActivityDateAsc(assignmentId, start, end)) {
+            days.get(row.getId().getActivityDate()).put(row.getId().getType(), row.getEventCount());
+        }
+
+        final List<AssignmentActivityDayDto> activity = new ArrayList<>(days.size());
+        days.forEach((day, counts) -> activity.add(new AssignmentActivityDayDto(day, counts)));
+        return activity;
+    }
 }
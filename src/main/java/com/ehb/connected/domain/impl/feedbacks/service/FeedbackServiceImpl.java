@@ -14,6 +14,7 @@ import com.ehb.connected.domain.impl.users.entities.User;
 import com.ehb.connected.domain.impl.users.services.UserService;
 import com.ehb.connected.exceptions.EntityNotFoundException;
 import com.ehb.connected.exceptions.UserUnauthorizedException;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
@@ -30,6 +31,7 @@ public class FeedbackServiceImpl implements FeedbackService {
     private final NotificationServiceImpl notificationService;
     private final FeedbackMapper feedbackMapper;
 
+    @Transactional
     @Override
     public FeedbackDto giveFeedback(Authentication authentication, Long projectId, FeedbackCreateDto feedbackDto) {
         final Project project = projectRepository.findById(projectId)
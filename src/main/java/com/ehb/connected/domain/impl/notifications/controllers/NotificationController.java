@@ -1,17 +1,25 @@
 package com.ehb.connected.domain.impl.notifications.controllers;
 
 import com.ehb.connected.domain.impl.notifications.dto.NotificationDto;
+import com.ehb.connected.domain.impl.notifications.dto.NotificationPageDto;
+import com.ehb.connected.domain.impl.notifications.dto.NotificationUnreadCountDto;
 import com.ehb.connected.domain.impl.notifications.service.NotificationServiceImpl;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -21,6 +29,22 @@ public class NotificationController {
 
     private final NotificationServiceImpl notificationService;
 
+    @PreAuthorize("hasAuthority('notification:read')")
+    @GetMapping("/feed")
+    public ResponseEntity<NotificationPageDto> getFeed(Authentication authentication,
+                                                       @RequestParam(defaultValue = "false") boolean unreadOnly,
+                                                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime beforeTimestamp,
+                                                       @RequestParam(required = false) Long beforeId,
+                                                       @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(notificationService.getFeed(authentication, unreadOnly, beforeTimestamp, beforeId, limit));
+    }
+
+    @PreAuthorize("hasAuthority('notification:read')")
+    @GetMapping("/unread-count")
+    public ResponseEntity<NotificationUnreadCountDto> getUnreadCount(Authentication authentication) {
+        return ResponseEntity.ok(notificationService.getUnreadCount(authentication));
+    }
+
     @PreAuthorize("hasAuthority('notification:read')")
     @GetMapping("/{id}")
     public ResponseEntity<NotificationDto> getNotificationById(@PathVariable Long id) {
@@ -45,4 +69,24 @@ public class NotificationController {
         notificationService.deleteNotification(id);
         return ResponseEntity.noContent().build();
     }
+
+    @PreAuthorize("hasAuthority('notification:update')")
+    @PutMapping("/read-all")
+    public ResponseEntity<NotificationUnreadCountDto> markAllAsRead(Authentication authentication,
+                                                                    @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime upToTimestamp,
+                                                                    @RequestParam(required = false) Long upToId) {
+        return ResponseEntity.ok(notificationService.markAllAsRead(authentication, upToTimestamp, upToId));
+    }
+
+    @PreAuthorize("hasAuthority('notification:update')")
+    @PutMapping("/read")
+    public ResponseEntity<NotificationUnreadCountDto> markAsRead(Authentication authentication, @RequestBody List<Long> notificationIds) {
+        return ResponseEntity.ok(notificationService.markAsRead(authentication, notificationIds));
+    }
+
+    @PreAuthorize("hasAuthority('notification:delete')")
+    @PostMapping("/delete")
+    public ResponseEntity<NotificationUnreadCountDto> deleteNotifications(Authentication authentication, @RequestBody List<Long> notificationIds) {
+        return ResponseEntity.ok(notificationService.deleteNotifications(authentication, notificationIds));
+    }
 }
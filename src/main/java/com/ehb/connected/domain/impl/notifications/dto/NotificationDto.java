@@ -17,4 +17,5 @@ public class NotificationDto {
     private Boolean isRead;
     private LocalDateTime timestamp;
     private String destinationUrl;
+    private int coalesceCount;
 }
@@ -0,0 +1,14 @@
+package com.ehb.connected.domain.impl.notifications.dto;
+
+import com.ehb.connected.domain.impl.users.entities.User;
+
+/**
+ * @param aggregateMessage optional; when set, notifications to the same recipient and destination are coalesced
+ *                         into one notification whose message is this format applied to the count (one %d)
+ */
+public record NotificationRequest(User recipient, String message, String destinationUrl, String aggregateMessage) {
+
+    public NotificationRequest(User recipient, String message, String destinationUrl) {
+        this(recipient, message, destinationUrl, null);
+    }
+}
@@ -0,0 +1,4 @@
+package com.ehb.connected.domain.impl.notifications.dto;
+
+public record NotificationUnreadCountDto(long unreadCount) {
+}
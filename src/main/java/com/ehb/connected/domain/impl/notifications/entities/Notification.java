@@ -6,6 +6,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -20,7 +21,11 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @RequiredArgsConstructor
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+        @Index(name = "idx_notifications_user_timestamp", columnList = "user_id, timestamp, id"),
+        @Index(name = "idx_notifications_user_read_timestamp", columnList = "user_id, is_read, timestamp, id"),
+        @Index(name = "idx_notifications_read_timestamp", columnList = "is_read, timestamp, id")
+})
 public class Notification {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -39,4 +44,12 @@ public class Notification {
     private LocalDateTime timestamp;
 
     private String destinationUrl;
+
+    // Set on notifications that coalesce: the message format (one %d) used once more of the same kind arrive
+    @Column(name = "aggregate_message", length = 512)
+    private String aggregateMessage;
+
+    // How many notifications this one stands for
+    @Column(name = "coalesce_count", nullable = false)
+    private int coalesceCount = 1;
 }
@@ -2,27 +2,19 @@ package com.ehb.connected.domain.impl.notifications.mappers;
 
 import com.ehb.connected.domain.impl.notifications.dto.NotificationDto;
 import com.ehb.connected.domain.impl.notifications.entities.Notification;
-import com.ehb.connected.domain.impl.users.mappers.UserDetailsMapper;
 import org.springframework.stereotype.Component;
 
 @Component
 public class NotificationMapper {
 
-
-    private final UserDetailsMapper userDetailsMapper;
-
-    public NotificationMapper(UserDetailsMapper userDetailsMapper) {
-        this.userDetailsMapper = userDetailsMapper;
-    }
-
     public NotificationDto NotificationToDto(Notification notification){
         NotificationDto dto = new NotificationDto();
         dto.setNotificationId(notification.getId());
-        userDetailsMapper.toUserDetailsDto(notification.getUser());
         dto.setMessage(notification.getMessage());
         dto.setIsRead(notification.getIsRead());
         dto.setDestinationUrl(notification.getDestinationUrl());
         dto.setTimestamp(notification.getTimestamp());
+        dto.setCoalesceCount(notification.getCoalesceCount());
         return dto;
     }
 
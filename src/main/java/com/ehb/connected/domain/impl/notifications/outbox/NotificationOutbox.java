@@ -0,0 +1,61 @@
+package com.ehb.connected.domain.impl.notifications.outbox;
+
+import com.ehb.connected.domain.impl.notifications.dto.NotificationRequest;
+import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Records notifications in the caller's transaction, so they exist exactly when the change they describe commits.
+ * Callers without a transaction are rejected, their insert would commit on its own.
+ */
+@Component
+public class NotificationOutbox {
+
+    private static final String INSERT = """
+            insert into notification_outbox (user_id, message, destination_url, aggregate_message, created_at, attempts, next_attempt_at)
+            values (?, ?, ?, ?, ?, 0, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectProvider<NotificationOutboxDispatcher> dispatcher;
+
+    public NotificationOutbox(JdbcTemplate jdbcTemplate, ObjectProvider<NotificationOutboxDispatcher> dispatcher) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dispatcher = dispatcher;
+    }
+
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void append(List<NotificationRequest> requests) {
+        if (requests.isEmpty()) {
+            return;
+        }
+        final Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT, requests, requests.size(), (statement, request) -> {
+            statement.setLong(1, request.recipient().getId());
+            statement.setString(2, request.message());
+            statement.setString(3, request.destinationUrl());
+            statement.setString(4, request.aggregateMessage());
+            statement.setTimestamp(5, now);
+            statement.setTimestamp(6, now);
+        });
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                wakeDispatcher();
+            }
+        });
+    }
+
+    private void wakeDispatcher() {
+        dispatcher.ifAvailable(NotificationOutboxDispatcher::wakeUp);
+    }
+}
@@ -0,0 +1,425 @@
+package com.ehb.connected.domain.impl.notifications.outbox;
+
+import com.ehb.connected.config.properties.NotificationOutboxProperties;
+import com.ehb.connected.domain.impl.notifications.dto.NotificationDto;
+import com.ehb.connected.jdbc.BatchWrites;
+import com.ehb.connected.websockets.WebSocketService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Moves outbox rows into notifications in batches and pushes them to their recipients.
+ * Rows are claimed with SKIP LOCKED so several instances can drain the outbox side by side. A row is only
+ * moved once every earlier row of the same recipient is gone, whether that row waits for a retry or is held
+ * by another instance. Each batch is pushed after its transaction commits, one virtual thread per recipient,
+ * so a user receives their notifications in the order they were recorded. Coalescable rows are folded into the
+ * recipient's open aggregate for the same destination instead of adding a notification each.
+ */
+@Component
+@ConditionalOnProperty(prefix = "connected.notifications.outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class NotificationOutboxDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationOutboxDispatcher.class);
+
+    // Rows behind a recipient's row that waits for a retry are not due either, served by idx_notification_outbox_user
+    private static final String CLAIM = """
+            select o.id, o.user_id, o.message, o.destination_url, o.aggregate_message, o.created_at, o.attempts
+            from notification_outbox o
+            where o.next_attempt_at <= ?
+              and not exists (
+                select 1 from notification_outbox e
+                where e.user_id = o.user_id and e.id < o.id and e.next_attempt_at > ?
+              )
+            order by o.id
+            limit ?
+            for update skip locked
+            """;
+    private static final String CLAIM_ONE = """
+            select o.id, o.user_id, o.message, o.destination_url, o.aggregate_message, o.created_at, o.attempts
+            from notification_outbox o
+            where o.id = ?
+              and not exists (select 1 from notification_outbox e where e.user_id = o.user_id and e.id < o.id)
+            for update skip locked
+            """;
+    private static final String INSERT_PREFIX =
+            "insert into notifications (user_id, message, is_read, timestamp, destination_url, aggregate_message, coalesce_count) values ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, false, ?, ?, ?, ?)";
+    // The newest still unread aggregate of the same kind within the window, served by idx_notifications_user_read_timestamp
+    private static final String FIND_OPEN_AGGREGATE = """
+            select id, coalesce_count
+            from notifications
+            where user_id = ?
+              and is_read = false
+              and timestamp >= ?
+              and destination_url = ?
+              and aggregate_message = ?
+            order by timestamp desc, id desc
+            limit 1
+            for update
+            """;
+    private static final String UPDATE_AGGREGATE = "update notifications set message = ?, coalesce_count = ?, timestamp = ? where id = ?";
+    private static final String INCREMENT_UNREAD = """
+            insert into notification_unread_counters (user_id, unread_count)
+            values (?, ?) as delta
+            on duplicate key update unread_count = notification_unread_counters.unread_count + delta.unread_count
+            """;
+
+    private static final RowMapper<OutboxNotification> ROW_MAPPER = (rs, rowNum) -> new OutboxNotification(
+            rs.getLong("id"),
+            rs.getLong("user_id"),
+            rs.getString("message"),
+            rs.getString("destination_url"),
+            rs.getString("aggregate_message"),
+            rs.getTimestamp("created_at").toLocalDateTime(),
+            rs.getInt("attempts"),
+            null,
+            1);
+
+    private record CoalesceKey(Long userId, String destinationUrl, String aggregateMessage) {}
+
+    private record OpenAggregate(long id, int count) {}
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final WebSocketService webSocketService;
+    private final NotificationOutboxProperties properties;
+    private final Semaphore wakeUps = new Semaphore(0);
+    private final AtomicLong backlog = new AtomicLong();
+    private final Timer deliveryLatency;
+    private final Counter retriedCounter;
+    private final Counter droppedCounter;
+    private final Counter deliveryFailedCounter;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public NotificationOutboxDispatcher(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                       WebSocketService webSocketService, NotificationOutboxProperties properties,
+                                       MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.webSocketService = webSocketService;
+        this.properties = properties;
+        meterRegistry.gauge("connected.notifications.outbox.backlog", backlog);
+        this.deliveryLatency = Timer.builder("connected.notifications.delivery.latency")
+                .description("Time from recording a notification to pushing it to the recipient")
+                .register(meterRegistry);
+        this.retriedCounter = Counter.builder("connected.notifications.outbox.retried")
+                .description("Outbox rows rescheduled after a failed write")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("connected.notifications.outbox.dropped")
+                .description("Outbox rows given up on after the maximum number of attempts")
+                .register(meterRegistry);
+        this.deliveryFailedCounter = Counter.builder("connected.notifications.delivery.failed")
+                .description("Persisted notifications that could not be pushed")
+                .register(meterRegistry);
+    }
+
+    // Started once the context is ready so the message broker is running before the first push
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        running = true;
+        worker = Thread.ofVirtual()
+                .name("notification-outbox-dispatcher")
+                .start(this::dispatchLoop);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (worker == null) {
+            return;
+        }
+        running = false;
+        wakeUp();
+        worker.join(properties.pollInterval().multipliedBy(10).toMillis());
+    }
+
+    public void wakeUp() {
+        if (wakeUps.availablePermits() == 0) {
+            wakeUps.release();
+        }
+    }
+
+    private void dispatchLoop() {
+        while (running) {
+            try {
+                final int claimed = dispatchBatch();
+                if (claimed < properties.batchSize()) {
+                    wakeUps.tryAcquire(properties.pollInterval().toMillis(), TimeUnit.MILLISECONDS);
+                    wakeUps.drainPermits();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                logger.error("[{}] Unexpected error in notification dispatcher", NotificationOutboxDispatcher.class.getSimpleName(), e);
+                sleepQuietly(properties.pollInterval());
+            }
+        }
+    }
+
+    private int dispatchBatch() {
+        final List<OutboxNotification> claimed = new ArrayList<>();
+        List<OutboxNotification> persisted;
+        try {
+            persisted = transactionTemplate.execute(status -> {
+                final Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+                claimed.addAll(withoutOvertakingRows(jdbcTemplate.query(CLAIM, ROW_MAPPER, now, now, properties.batchSize())));
+                return claimed.isEmpty() ? List.of() : persist(claimed);
+            });
+        } catch (DataAccessException | TransactionException e) {
+            if (claimed.isEmpty()) {
+                throw e;
+            }
+            logger.warn("[{}] Moving {} outbox rows failed, retrying row by row",
+                    NotificationOutboxDispatcher.class.getSimpleName(), claimed.size(), e);
+            final Set<Long> failedRecipients = new HashSet<>();
+            // A later row of a recipient must not overtake one that now waits for a retry
+            persisted = BatchWrites.retryRowByRow(claimed, row ->
+                    failedRecipients.contains(row.userId()) ? null : persistIndividually(row, failedRecipients));
+        }
+        deliver(persisted);
+        return claimed.size();
+    }
+
+    // Another instance may still hold an earlier row of the same recipient; rows behind it are left alone and
+    // their locks go away when this transaction commits
+    List<OutboxNotification> withoutOvertakingRows(List<OutboxNotification> claimed) {
+        if (claimed.isEmpty()) {
+            return claimed;
+        }
+        final List<Long> ids = claimed.stream().map(OutboxNotification::id).toList();
+        final List<Long> userIds = claimed.stream().map(OutboxNotification::userId).distinct().toList();
+        final List<Object> args = new ArrayList<>(userIds);
+        args.addAll(ids);
+        args.add(ids.getLast());
+        final Map<Long, Long> firstUnclaimed = new HashMap<>();
+        jdbcTemplate.query("select user_id, min(id) as first_id from notification_outbox"
+                        + " where user_id in (" + placeholders(userIds.size()) + ")"
+                        + " and id not in (" + placeholders(ids.size()) + ")"
+                        + " and id < ?"
+                        + " group by user_id",
+                (RowCallbackHandler) rs -> firstUnclaimed.put(rs.getLong("user_id"), rs.getLong("first_id")),
+                args.toArray());
+        if (firstUnclaimed.isEmpty()) {
+            return claimed;
+        }
+        return claimed.stream()
+                .filter(row -> !firstUnclaimed.containsKey(row.userId()) || row.id() < firstUnclaimed.get(row.userId()))
+                .toList();
+    }
+
+    private OutboxNotification persistIndividually(OutboxNotification row, Set<Long> failedRecipients) {
+        try {
+            return transactionTemplate.execute(status -> {
+                final List<OutboxNotification> locked = jdbcTemplate.query(CLAIM_ONE, ROW_MAPPER, row.id());
+                // Gone, taken by another instance or behind an earlier row of the recipient in the meantime
+                return locked.isEmpty() ? null : persist(locked).getFirst();
+            });
+        } catch (DataAccessException | TransactionException e) {
+            failedRecipients.add(row.userId());
+            reschedule(row, e);
+            return null;
+        }
+    }
+
+    // Runs inside the claiming transaction: the notifications and their unread counts appear and the outbox rows disappear together
+    List<OutboxNotification> persist(List<OutboxNotification> rows) {
+        // Coalescable rows of the same recipient, destination and aggregate message fold into one notification
+        final Map<Object, List<OutboxNotification>> groups = new LinkedHashMap<>();
+        for (OutboxNotification row : rows) {
+            final Object key = row.coalescable() ? new CoalesceKey(row.userId(), row.destinationUrl(), row.aggregateMessage()) : row.id();
+            groups.computeIfAbsent(key, k -> new ArrayList<>()).add(row);
+        }
+
+        final List<OutboxNotification> persisted = new ArrayList<>(groups.size());
+        final List<OutboxNotification> inserts = new ArrayList<>(groups.size());
+        for (List<OutboxNotification> group : groups.values()) {
+            final OutboxNotification latest = group.getLast();
+            if (!latest.coalescable()) {
+                inserts.add(latest);
+                continue;
+            }
+            final OutboxNotification merged = mergeIntoOpenAggregate(group);
+            if (merged != null) {
+                persisted.add(merged);
+            } else {
+                final int count = group.size();
+                inserts.add(latest.persistedAs(null, count == 1 ? latest.message() : latest.aggregateMessage().formatted(count), count));
+            }
+        }
+
+        if (!inserts.isEmpty()) {
+            final List<Long> notificationIds = insertNotifications(inserts);
+            for (int i = 0; i < inserts.size(); i++) {
+                final OutboxNotification inserted = inserts.get(i);
+                persisted.add(inserted.persistedAs(notificationIds.get(i), inserted.message(), inserted.coalesceCount()));
+            }
+            // An aggregate that was updated in place is still one unread notification
+            final List<Object[]> unreadIncrements = inserts.stream()
+                    .collect(Collectors.groupingBy(OutboxNotification::userId, Collectors.counting()))
+                    .entrySet().stream()
+                    .map(entry -> new Object[]{entry.getKey(), entry.getValue()})
+                    .toList();
+            jdbcTemplate.batchUpdate(INCREMENT_UNREAD, unreadIncrements);
+        }
+
+        jdbcTemplate.update("delete from notification_outbox where id in (" + placeholders(rows.size()) + ")",
+                rows.stream().map(OutboxNotification::id).toArray());
+
+        // Delivery follows outbox order, an aggregate takes the place of its newest row
+        persisted.sort(Comparator.comparing(OutboxNotification::id));
+        return persisted;
+    }
+
+    private OutboxNotification mergeIntoOpenAggregate(List<OutboxNotification> group) {
+        final OutboxNotification first = group.getFirst();
+        final OutboxNotification latest = group.getLast();
+        final List<OpenAggregate> open = jdbcTemplate.query(FIND_OPEN_AGGREGATE,
+                (rs, rowNum) -> new OpenAggregate(rs.getLong("id"), rs.getInt("coalesce_count")),
+                latest.userId(),
+                Timestamp.valueOf(first.createdAt().minus(properties.coalesceWindow())),
+                latest.destinationUrl(),
+                latest.aggregateMessage());
+        if (open.isEmpty()) {
+            return null;
+        }
+        final OpenAggregate aggregate = open.getFirst();
+        final int count = aggregate.count() + group.size();
+        final String message = latest.aggregateMessage().formatted(count);
+        jdbcTemplate.update(UPDATE_AGGREGATE, message, count, Timestamp.valueOf(latest.createdAt()), aggregate.id());
+        return latest.persistedAs(aggregate.id(), message, count);
+    }
+
+    private List<Long> insertNotifications(List<OutboxNotification> rows) {
+        return BatchWrites.insertReturningIds(jdbcTemplate, INSERT_PREFIX, ROW_PLACEHOLDER, rows, row -> Arrays.asList(
+                row.userId(),
+                row.message(),
+                Timestamp.valueOf(row.createdAt()),
+                row.destinationUrl(),
+                row.coalescable() ? row.aggregateMessage() : null,
+                row.coalesceCount()));
+    }
+
+    private void reschedule(OutboxNotification row, Exception cause) {
+        final int attempts = row.attempts() + 1;
+        try {
+            if (attempts >= properties.maxAttempts()) {
+                jdbcTemplate.update("delete from notification_outbox where id = ?", row.id());
+                droppedCounter.increment();
+                logger.error("[{}] Dropping notification {} for user {} after {} attempts",
+                        NotificationOutboxDispatcher.class.getSimpleName(), row.id(), row.userId(), attempts, cause);
+                return;
+            }
+            final Duration backoff = backoff(attempts);
+            jdbcTemplate.update("update notification_outbox set attempts = ?, next_attempt_at = ? where id = ?",
+                    attempts, Timestamp.valueOf(LocalDateTime.now().plus(backoff)), row.id());
+            retriedCounter.increment();
+            logger.warn("[{}] Notification {} for user {} failed (attempt {}), retrying in {}",
+                    NotificationOutboxDispatcher.class.getSimpleName(), row.id(), row.userId(), attempts, backoff);
+        } catch (DataAccessException e) {
+            // The row stays due and is picked up by the next poll
+            logger.error("[{}] Could not reschedule notification {}", NotificationOutboxDispatcher.class.getSimpleName(), row.id(), e);
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        final Duration backoff = properties.retryBackoff().multipliedBy(1L << Math.min(attempts - 1, 20));
+        return backoff.compareTo(properties.maxRetryBackoff()) > 0 ? properties.maxRetryBackoff() : backoff;
+    }
+
+    private void deliver(Collection<OutboxNotification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        final Map<Long, List<OutboxNotification>> byRecipient = notifications.stream()
+                .collect(Collectors.groupingBy(OutboxNotification::userId, LinkedHashMap::new, Collectors.toList()));
+        // Waits for the whole batch, so a later batch never overtakes an earlier one for the same user
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            byRecipient.values().forEach(inOrder -> executor.submit(() -> inOrder.forEach(this::deliver)));
+        }
+    }
+
+    private void deliver(OutboxNotification notification) {
+        final NotificationDto dto = new NotificationDto();
+        dto.setNotificationId(notification.notificationId());
+        dto.setMessage(notification.message());
+        dto.setIsRead(false);
+        dto.setTimestamp(notification.createdAt());
+        dto.setDestinationUrl(notification.destinationUrl());
+        dto.setCoalesceCount(notification.coalesceCount());
+
+        for (int attempt = 1; attempt <= properties.deliveryAttempts(); attempt++) {
+            try {
+                webSocketService.deliverNotification(notification.userId(), dto);
+                deliveryLatency.record(Duration.between(notification.createdAt(), LocalDateTime.now()));
+                return;
+            } catch (RuntimeException e) {
+                if (attempt == properties.deliveryAttempts()) {
+                    // Already persisted, the client still sees it on its next fetch
+                    deliveryFailedCounter.increment();
+                    logger.warn("[{}] Could not push notification {} to user {}",
+                            NotificationOutboxDispatcher.class.getSimpleName(), notification.notificationId(), notification.userId(), e);
+                    return;
+                }
+                sleepQuietly(Duration.ofMillis(100L * attempt));
+            }
+        }
+    }
+
+    // Sampled on its own schedule, counting the whole table after every batch would cost a scan per batch under load
+    @Scheduled(fixedDelayString = "${connected.notifications.outbox.backlog-sample-interval:PT30S}")
+    void sampleBacklog() {
+        final Long count = jdbcTemplate.queryForObject("select count(*) from notification_outbox", Long.class);
+        backlog.set(count == null ? 0 : count);
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private static void sleepQuietly(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
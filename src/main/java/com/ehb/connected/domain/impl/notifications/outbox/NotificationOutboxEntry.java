@@ -0,0 +1,56 @@
+package com.ehb.connected.domain.impl.notifications.outbox;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * A notification recorded by a business transaction and not yet persisted and pushed by the dispatcher.
+ * Written and drained with plain JDBC, see NotificationOutbox and NotificationOutboxDispatcher.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "notification_outbox",
+        indexes = {
+                @Index(name = "idx_notification_outbox_next_attempt", columnList = "next_attempt_at, id"),
+                @Index(name = "idx_notification_outbox_user", columnList = "user_id, id")
+        })
+public class NotificationOutboxEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(length = 512)
+    private String message;
+
+    @Column(name = "destination_url", length = 512)
+    private String destinationUrl;
+
+    @Column(name = "aggregate_message", length = 512)
+    private String aggregateMessage;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+}
@@ -0,0 +1,17 @@
+package com.ehb.connected.domain.impl.notifications.outbox;
+
+import java.time.LocalDateTime;
+
+// A claimed outbox row; notificationId is set once the row has been moved (or folded) into notifications
+record OutboxNotification(Long id, Long userId, String message, String destinationUrl, String aggregateMessage,
+                          LocalDateTime createdAt, int attempts, Long notificationId, int coalesceCount) {
+
+    // Coalescing groups on recipient + destination, so a notification without a destination stands alone
+    boolean coalescable() {
+        return aggregateMessage != null && destinationUrl != null;
+    }
+
+    OutboxNotification persistedAs(Long notificationId, String message, int coalesceCount) {
+        return new OutboxNotification(id, userId, message, destinationUrl, aggregateMessage, createdAt, attempts, notificationId, coalesceCount);
+    }
+}
@@ -1,9 +1,15 @@
 package com.ehb.connected.domain.impl.notifications.repositories;
 
 import com.ehb.connected.domain.impl.notifications.entities.Notification;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,4 +21,78 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     List<Notification> findByUserIdOrderByTimestampDesc(Long userId);
 
     void deleteById(Long id);
+
+    // Feed keyset queries, newest first, seeking on (timestamp, id) in idx_notifications_user_timestamp
+    @Query("""
+              select n
+              from Notification n
+              where n.user.id = :userId
+              order by n.timestamp desc, n.id desc
+            """)
+    List<Notification> findFeedFirstPage(@Param("userId") Long userId, Limit limit);
+
+    @Query("""
+              select n
+              from Notification n
+              where n.user.id = :userId
+                and (n.timestamp < :beforeTimestamp or (n.timestamp = :beforeTimestamp and n.id < :beforeId))
+              order by n.timestamp desc, n.id desc
+            """)
+    List<Notification> findFeedPage(@Param("userId") Long userId,
+                                    @Param("beforeTimestamp") LocalDateTime beforeTimestamp,
+                                    @Param("beforeId") Long beforeId,
+                                    Limit limit);
+
+    // Same seek restricted to unread rows, served by idx_notifications_user_read_timestamp
+    @Query("""
+              select n
+              from Notification n
+              where n.user.id = :userId
+                and n.isRead = false
+              order by n.timestamp desc, n.id desc
+            """)
+    List<Notification> findUnreadFeedFirstPage(@Param("userId") Long userId, Limit limit);
+
+    @Query("""
+              select n
+              from Notification n
+              where n.user.id = :userId
+                and n.isRead = false
+                and (n.timestamp < :beforeTimestamp or (n.timestamp = :beforeTimestamp and n.id < :beforeId))
+              order by n.timestamp desc, n.id desc
+            """)
+    List<Notification> findUnreadFeedPage(@Param("userId") Long userId,
+                                          @Param("beforeTimestamp") LocalDateTime beforeTimestamp,
+                                          @Param("beforeId") Long beforeId,
+                                          Limit limit);
+
+    // Guarded so concurrent reads of the same notification decrement the counter once
+    @Modifying
+    @Query("update Notification n set n.isRead = true where n.id = :id and n.isRead = false")
+    int markReadIfUnread(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Notification n set n.isRead = true where n.user.id = :userId and n.isRead = false")
+    int markAllReadByUserId(@Param("userId") Long userId);
+
+    // Everything at or before the cursor, so notifications that arrived after the user looked stay unread
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+              update Notification n
+              set n.isRead = true
+              where n.user.id = :userId
+                and n.isRead = false
+                and (n.timestamp < :upToTimestamp or (n.timestamp = :upToTimestamp and n.id <= :upToId))
+            """)
+    int markReadUpTo(@Param("userId") Long userId,
+                     @Param("upToTimestamp") LocalDateTime upToTimestamp,
+                     @Param("upToId") Long upToId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Notification n set n.isRead = true where n.user.id = :userId and n.id in :ids and n.isRead = false")
+    int markReadByIds(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Notification n where n.user.id = :userId and n.id in :ids")
+    int deleteByUserIdAndIds(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,26 @@
+package com.ehb.connected.domain.impl.notifications.repositories;
+
+import com.ehb.connected.domain.impl.notifications.entities.NotificationUnreadCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface NotificationUnreadCounterRepository extends JpaRepository<NotificationUnreadCounter, Long> {
+
+    @Query("select c.unreadCount from NotificationUnreadCounter c where c.userId = :userId")
+    Optional<Long> findUnreadCountByUserId(@Param("userId") Long userId);
+
+    // Increments are done by NotificationOutboxDispatcher together with the notification insert
+    @Modifying
+    @Query("""
+              update NotificationUnreadCounter c
+              set c.unreadCount = case when c.unreadCount > :amount then c.unreadCount - :amount else 0 end
+              where c.userId = :userId
+            """)
+    int decrement(@Param("userId") Long userId, @Param("amount") long amount);
+}
@@ -0,0 +1,177 @@
+package com.ehb.connected.domain.impl.notifications.retention;
+
+import com.ehb.connected.config.properties.NotificationRetentionProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Deletes read notifications past their retention, unread ones past a longer retention, and everything
+ * beyond the newest maxPerUser of each user. Works in short primary-key batches with a pause in between,
+ * keeping the unread counters in step. Off by default: the batches lock rows with FOR UPDATE, so two nodes
+ * running it at the same moment would block each other; turn it on for one node.
+ */
+@Component
+@ConditionalOnProperty(prefix = "connected.notifications.retention", name = "enabled", havingValue = "true")
+public class NotificationRetentionJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationRetentionJob.class);
+
+    private static final String EXPIRED = """
+            select id, user_id, is_read
+            from notifications
+            where is_read = ?
+              and timestamp < ?
+            order by timestamp, id
+            limit ?
+            for update
+            """;
+    private static final String OVER_LIMIT_USERS = """
+            select user_id
+            from notifications
+            where user_id is not null
+            group by user_id
+            having count(*) > ?
+            """;
+    // The oldest notification the user keeps
+    private static final String KEEP_BOUNDARY = """
+            select timestamp, id
+            from notifications
+            where user_id = ?
+            order by timestamp desc, id desc
+            limit 1 offset ?
+            """;
+    private static final String OLDER_THAN_BOUNDARY = """
+            select id, user_id, is_read
+            from notifications
+            where user_id = ?
+              and (timestamp < ? or (timestamp = ? and id < ?))
+            order by timestamp, id
+            limit ?
+            for update
+            """;
+    private static final String DECREMENT_UNREAD = """
+            update notification_unread_counters
+            set unread_count = case when unread_count > ? then unread_count - ? else 0 end
+            where user_id = ?
+            """;
+
+    private record Row(long id, Long userId, boolean read) {}
+
+    private record Boundary(Timestamp timestamp, long id) {}
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final NotificationRetentionProperties properties;
+    private final Counter readExpiredCounter;
+    private final Counter unreadExpiredCounter;
+    private final Counter overLimitCounter;
+
+    public NotificationRetentionJob(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                    NotificationRetentionProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.readExpiredCounter = deletedCounter(meterRegistry, "read_expired");
+        this.unreadExpiredCounter = deletedCounter(meterRegistry, "unread_expired");
+        this.overLimitCounter = deletedCounter(meterRegistry, "over_limit");
+    }
+
+    private static Counter deletedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("connected.notifications.retention.deleted")
+                .description("Notifications removed by the retention job")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${connected.notifications.retention.cron:0 0 4 * * *}")
+    public void run() {
+        final long start = System.currentTimeMillis();
+        final LocalDateTime now = LocalDateTime.now();
+        try {
+            final long read = deleteInBatches(EXPIRED, readExpiredCounter,
+                    true, Timestamp.valueOf(now.minus(properties.readRetention())));
+            final long unread = deleteInBatches(EXPIRED, unreadExpiredCounter,
+                    false, Timestamp.valueOf(now.minus(properties.unreadRetention())));
+            final long overLimit = trimOverLimitUsers();
+            logger.info("[{}] Removed {} read, {} unread and {} over-limit notifications in {} ms",
+                    NotificationRetentionJob.class.getSimpleName(), read, unread, overLimit, System.currentTimeMillis() - start);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            logger.error("[{}] Notification retention failed", NotificationRetentionJob.class.getSimpleName(), e);
+        }
+    }
+
+    private long trimOverLimitUsers() throws InterruptedException {
+        long deleted = 0;
+        final List<Long> userIds = jdbcTemplate.queryForList(OVER_LIMIT_USERS, Long.class, properties.maxPerUser());
+        for (Long userId : userIds) {
+            final List<Boundary> boundary = jdbcTemplate.query(KEEP_BOUNDARY,
+                    (rs, rowNum) -> new Boundary(rs.getTimestamp(1), rs.getLong(2)), userId, properties.maxPerUser() - 1);
+            if (boundary.isEmpty()) {
+                continue;
+            }
+            final Boundary keep = boundary.getFirst();
+            deleted += deleteInBatches(OLDER_THAN_BOUNDARY, overLimitCounter, userId, keep.timestamp(), keep.timestamp(), keep.id());
+        }
+        return deleted;
+    }
+
+    // Runs the locking select with the batch size appended to its arguments until it returns nothing
+    private long deleteInBatches(String selectSql, Counter counter, Object... selectArgs) throws InterruptedException {
+        final Object[] args = new Object[selectArgs.length + 1];
+        System.arraycopy(selectArgs, 0, args, 0, selectArgs.length);
+        args[selectArgs.length] = properties.batchSize();
+
+        long total = 0;
+        while (true) {
+            final Integer deleted = transactionTemplate.execute(status -> deleteBatch(selectSql, args));
+            if (deleted == null || deleted == 0) {
+                return total;
+            }
+            total += deleted;
+            counter.increment(deleted);
+            if (deleted < properties.batchSize()) {
+                return total;
+            }
+            Thread.sleep(properties.batchPause());
+        }
+    }
+
+    private int deleteBatch(String selectSql, Object[] args) {
+        final List<Row> rows = jdbcTemplate.query(selectSql,
+                (rs, rowNum) -> new Row(rs.getLong("id"), rs.getObject("user_id", Long.class), rs.getBoolean("is_read")), args);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        final String placeholders = rows.stream().map(row -> "?").collect(Collectors.joining(", "));
+        final int deleted = jdbcTemplate.update("delete from notifications where id in (" + placeholders + ")",
+                rows.stream().map(Row::id).toArray());
+
+        // The rows are locked, so is_read is current and no concurrent mark-read decremented them already
+        final Map<Long, Long> unreadPerUser = rows.stream()
+                .filter(row -> !row.read() && row.userId() != null)
+                .collect(Collectors.groupingBy(Row::userId, Collectors.counting()));
+        if (!unreadPerUser.isEmpty()) {
+            final List<Object[]> decrements = new ArrayList<>(unreadPerUser.size());
+            unreadPerUser.forEach((userId, count) -> decrements.add(new Object[]{count, count, userId}));
+            jdbcTemplate.batchUpdate(DECREMENT_UNREAD, decrements);
+        }
+        return deleted;
+    }
+}
@@ -1,14 +1,26 @@
 package com.ehb.connected.domain.impl.notifications.service;
 
 import com.ehb.connected.domain.impl.notifications.dto.NotificationDto;
+import com.ehb.connected.domain.impl.notifications.dto.NotificationPageDto;
+import com.ehb.connected.domain.impl.notifications.dto.NotificationRequest;
+import com.ehb.connected.domain.impl.notifications.dto.NotificationUnreadCountDto;
 import com.ehb.connected.domain.impl.users.entities.User;
+import org.springframework.security.core.Authentication;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface NotificationService {
     void createNotification(User recipient, String message, String destinationUrl);
+    void createNotifications(List<NotificationRequest> requests);
+    void createCoalescingNotification(User recipient, String message, String aggregateMessage, String destinationUrl);
     NotificationDto getNotificationById(Long id);
     List<NotificationDto> getAllNotificationsByUserId(Long userId);
+    NotificationPageDto getFeed(Authentication authentication, boolean unreadOnly, LocalDateTime beforeTimestamp, Long beforeId, int limit);
+    NotificationUnreadCountDto getUnreadCount(Authentication authentication);
     NotificationDto markNotificationAsRead(Long notificationId);
     void deleteNotification(Long id);
+    NotificationUnreadCountDto markAllAsRead(Authentication authentication, LocalDateTime upToTimestamp, Long upToId);
+    NotificationUnreadCountDto markAsRead(Authentication authentication, List<Long> notificationIds);
+    NotificationUnreadCountDto deleteNotifications(Authentication authentication, List<Long> notificationIds);
 }
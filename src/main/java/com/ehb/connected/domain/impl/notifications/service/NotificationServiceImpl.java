@@ -1,42 +1,74 @@
 package com.ehb.connected.domain.impl.notifications.service;
 
 import com.ehb.connected.domain.impl.notifications.dto.NotificationDto;
+import com.ehb.connected.domain.impl.notifications.dto.NotificationPageDto;
+import com.ehb.connected.domain.impl.notifications.dto.NotificationRequest;
+import com.ehb.connected.domain.impl.notifications.dto.NotificationUnreadCountDto;
 import com.ehb.connected.domain.impl.notifications.entities.Notification;
 import com.ehb.connected.domain.impl.notifications.mappers.NotificationMapper;
+import com.ehb.connected.domain.impl.notifications.outbox.NotificationOutbox;
 import com.ehb.connected.domain.impl.notifications.repositories.NotificationRepository;
+import com.ehb.connected.domain.impl.notifications.repositories.NotificationUnreadCounterRepository;
 import com.ehb.connected.domain.impl.users.entities.User;
+import com.ehb.connected.domain.impl.users.services.UserService;
+import com.ehb.connected.exceptions.BaseRuntimeException;
 import com.ehb.connected.exceptions.EntityNotFoundException;
+import com.ehb.connected.pagination.KeysetPage;
 import com.ehb.connected.websockets.WebSocketService;
+import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 public class NotificationServiceImpl implements NotificationService{
     private final NotificationMapper notificationMapper;
     private final NotificationRepository notificationRepository;
+    private final NotificationOutbox notificationOutbox;
+    private final NotificationUnreadCounterRepository unreadCounterRepository;
+    private final UserService userService;
     private final WebSocketService webSocketService;
 
+    private static final int MAX_FEED_PAGE_SIZE = 100;
+    private static final int MAX_BULK_SIZE = 500;
+
     @Autowired
-    public NotificationServiceImpl(NotificationMapper notificationMapper, NotificationRepository notificationRepository, WebSocketService webSocketService) {
+    public NotificationServiceImpl(NotificationMapper notificationMapper, NotificationRepository notificationRepository, NotificationOutbox notificationOutbox,
+                                   NotificationUnreadCounterRepository unreadCounterRepository, UserService userService,
+                                   WebSocketService webSocketService) {
         this.notificationMapper = notificationMapper;
         this.notificationRepository = notificationRepository;
+        this.notificationOutbox = notificationOutbox;
+        this.unreadCounterRepository = unreadCounterRepository;
+        this.userService = userService;
         this.webSocketService = webSocketService;
     }
 
+    // Recorded in the caller's transaction; persisted and pushed by the outbox dispatcher after commit
     @Override
     public void createNotification(User recipient, String message, String destinationUrl) {
-        Notification notification = new Notification();
-        notification.setUser(recipient);
-        notification.setMessage(message);
-        notification.setIsRead(false);
-        notification.setDestinationUrl(destinationUrl);
-        notificationRepository.save(notification);
-        //create notificationDto and send it to the recipient via the destinationUrl
-        NotificationDto notificationDto = notificationMapper.NotificationToDto(notification);
-        webSocketService.sendNotification("/user/"+ recipient.getId()+ "/notifications", notificationDto);
+        notificationOutbox.append(List.of(new NotificationRequest(recipient, message, destinationUrl)));
+    }
+
+    @Override
+    public void createNotifications(List<NotificationRequest> requests) {
+        notificationOutbox.append(requests);
+    }
+
+    // For high-volume kinds: while the recipient has not read it, later ones update a single notification in place
+    @Override
+    public void createCoalescingNotification(User recipient, String message, String aggregateMessage, String destinationUrl) {
+        notificationOutbox.append(List.of(new NotificationRequest(recipient, message, destinationUrl, aggregateMessage)));
     }
 
     @Override
@@ -53,17 +85,136 @@ public class NotificationServiceImpl implements NotificationService{
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public NotificationPageDto getFeed(Authentication authentication, boolean unreadOnly, LocalDateTime beforeTimestamp, Long beforeId, int limit) {
+        KeysetPage.requireCompleteCursor(beforeTimestamp, beforeId, "beforeTimestamp", "beforeId");
+        final Long userId = userService.getUserByAuthentication(authentication).getId();
+        final int pageSize = Math.clamp(limit, 1, MAX_FEED_PAGE_SIZE);
+        final Limit fetchLimit = KeysetPage.fetchLimit(pageSize);
+        final List<Notification> rows;
+        if (unreadOnly) {
+            rows = beforeId == null
+                    ? notificationRepository.findUnreadFeedFirstPage(userId, fetchLimit)
+                    : notificationRepository.findUnreadFeedPage(userId, beforeTimestamp, beforeId, fetchLimit);
+        } else {
+            rows = beforeId == null
+                    ? notificationRepository.findFeedFirstPage(userId, fetchLimit)
+                    : notificationRepository.findFeedPage(userId, beforeTimestamp, beforeId, fetchLimit);
+        }
+
+        final KeysetPage<Notification> page = KeysetPage.of(rows, pageSize);
+        final Notification next = page.nextCursor();
+        return new NotificationPageDto(
+                page.items().stream().map(notificationMapper::NotificationToDto).toList(),
+                page.hasMore(),
+                next != null ? next.getTimestamp() : null,
+                next != null ? next.getId() : null
+        );
+    }
+
+    @Override
+    public NotificationUnreadCountDto getUnreadCount(Authentication authentication) {
+        final Long userId = userService.getUserByAuthentication(authentication).getId();
+        return new NotificationUnreadCountDto(unreadCounterRepository.findUnreadCountByUserId(userId).orElse(0L));
+    }
+
+    @Transactional
     @Override
     public NotificationDto markNotificationAsRead(Long notificationId) {
         Notification notification = notificationRepository.findById(notificationId)
                 .orElseThrow(() -> new EntityNotFoundException(NotificationServiceImpl.class, notificationId));
+        if (notificationRepository.markReadIfUnread(notificationId) == 1) {
+            unreadCounterRepository.decrement(notification.getUser().getId(), 1);
+            publishUnreadCountAfterCommit(notification.getUser().getId());
+        }
         notification.setIsRead(true);
-        notificationRepository.save(notification);
         return notificationMapper.NotificationToDto(notification);
     }
 
+    @Transactional
     @Override
     public void deleteNotification(Long id) {
-        notificationRepository.deleteById(id);
+        notificationRepository.findById(id).ifPresent(notification -> {
+            // Marking it read first tells exactly whether this delete removes an unread notification
+            if (notification.getUser() != null && notificationRepository.markReadIfUnread(id) == 1) {
+                unreadCounterRepository.decrement(notification.getUser().getId(), 1);
+                publishUnreadCountAfterCommit(notification.getUser().getId());
+            }
+            notificationRepository.delete(notification);
+        });
+    }
+
+    @Transactional
+    @Override
+    public NotificationUnreadCountDto markAllAsRead(Authentication authentication, LocalDateTime upToTimestamp, Long upToId) {
+        KeysetPage.requireCompleteCursor(upToTimestamp, upToId, "upToTimestamp", "upToId");
+        final Long userId = userService.getUserByAuthentication(authentication).getId();
+        final int marked = upToId == null
+                ? notificationRepository.markAllReadByUserId(userId)
+                : notificationRepository.markReadUpTo(userId, upToTimestamp, upToId);
+        return afterUnreadChange(userId, marked);
+    }
+
+    @Transactional
+    @Override
+    public NotificationUnreadCountDto markAsRead(Authentication authentication, List<Long> notificationIds) {
+        final Long userId = userService.getUserByAuthentication(authentication).getId();
+        final Set<Long> ids = validateIds(notificationIds);
+        final int marked = ids.isEmpty() ? 0 : notificationRepository.markReadByIds(userId, ids);
+        return afterUnreadChange(userId, marked);
+    }
+
+    @Transactional
+    @Override
+    public NotificationUnreadCountDto deleteNotifications(Authentication authentication, List<Long> notificationIds) {
+        final Long userId = userService.getUserByAuthentication(authentication).getId();
+        final Set<Long> ids = validateIds(notificationIds);
+        if (ids.isEmpty()) {
+            return afterUnreadChange(userId, 0);
+        }
+        // The update reports how many of them were still unread, without a separate count that could race
+        final int unread = notificationRepository.markReadByIds(userId, ids);
+        notificationRepository.deleteByUserIdAndIds(userId, ids);
+        return afterUnreadChange(userId, unread);
+    }
+
+    private Set<Long> validateIds(List<Long> notificationIds) {
+        if (notificationIds == null) {
+            return Set.of();
+        }
+        if (notificationIds.size() > MAX_BULK_SIZE) {
+            throw new BaseRuntimeException("Cannot update more than " + MAX_BULK_SIZE + " notifications at once", HttpStatus.BAD_REQUEST);
+        }
+        if (notificationIds.contains(null)) {
+            throw new BaseRuntimeException("Notification ids must not be null", HttpStatus.BAD_REQUEST);
+        }
+        return new HashSet<>(notificationIds);
+    }
+
+    private NotificationUnreadCountDto afterUnreadChange(Long userId, int readCount) {
+        if (readCount > 0) {
+            unreadCounterRepository.decrement(userId, readCount);
+            publishUnreadCountAfterCommit(userId);
+        }
+        return new NotificationUnreadCountDto(unreadCounterRepository.findUnreadCountByUserId(userId).orElse(0L));
+    }
+
+    // Read after commit, so the pushed value includes changes other transactions committed meanwhile
+    private void publishUnreadCountAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publishUnreadCount(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publishUnreadCount(userId);
+            }
+        });
+    }
+
+    private void publishUnreadCount(Long userId) {
+        webSocketService.sendUnreadCount(userId,
+                new NotificationUnreadCountDto(unreadCounterRepository.findUnreadCountByUserId(userId).orElse(0L)));
     }
 }
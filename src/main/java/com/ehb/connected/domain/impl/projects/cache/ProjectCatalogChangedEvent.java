@@ -0,0 +1,8 @@
+package com.ehb.connected.domain.impl.projects.cache;
+
+/**
+ * Published whenever a change can alter the published project list of an assignment
+ * (status change, project update, members joining or leaving).
+ */
+public record ProjectCatalogChangedEvent(Long assignmentId) {
+}
@@ -0,0 +1,28 @@
+package com.ehb.connected.domain.impl.projects.cache;
+
+import com.ehb.connected.domain.impl.projects.repositories.ProjectRepository;
+import com.ehb.connected.domain.impl.users.events.UserProfileChangedEvent;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ProjectETagInvalidator {
+
+    private final ProjectRepository projectRepository;
+
+    private final Logger logger = LoggerFactory.getLogger(ProjectETagInvalidator.class);
+
+    // Runs inside the profile change's transaction, so a client can never revalidate against the old profile
+    @EventListener
+    @Transactional
+    public void onUserProfileChanged(UserProfileChangedEvent event) {
+        int bumped = projectRepository.bumpVersionOfProjectsShowingUser(event.userId());
+        logger.debug("[{}] Bumped the version of {} projects after profile change of user {}",
+                ProjectETagInvalidator.class.getSimpleName(), bumped, event.userId());
+    }
+}
@@ -0,0 +1,50 @@
+package com.ehb.connected.domain.impl.projects.cache;
+
+import com.ehb.connected.domain.impl.projects.dto.ProjectDetailsDto;
+import com.ehb.connected.domain.impl.projects.entities.ProjectStatusEnum;
+import com.ehb.connected.domain.impl.projects.mappers.ProjectMapper;
+import com.ehb.connected.domain.impl.projects.repositories.ProjectRepository;
+import com.ehb.connected.domain.impl.users.events.UserProfileChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class PublishedProjectCache {
+
+    public static final String CACHE_NAME = "publishedProjects";
+
+    private final ProjectRepository projectRepository;
+    private final ProjectMapper projectMapper;
+
+    private final Logger logger = LoggerFactory.getLogger(PublishedProjectCache.class);
+
+    @Cacheable(cacheNames = CACHE_NAME, key = "#assignmentId")
+    public List<ProjectDetailsDto> getPublishedProjects(Long assignmentId) {
+        // Copy into a mutable list so the value can be (de)serialized when the cache is backed by Redis
+        return new ArrayList<>(projectMapper.toDetailsDtoList(
+                projectRepository.findAllByAssignmentIdAndStatus(assignmentId, ProjectStatusEnum.PUBLISHED)));
+    }
+
+    // Evict after commit, otherwise a reader could re-cache the old list before the change is visible
+    @TransactionalEventListener(fallbackExecution = true)
+    @CacheEvict(cacheNames = CACHE_NAME, key = "#event.assignmentId()")
+    public void onCatalogChanged(ProjectCatalogChangedEvent event) {
+        logger.debug("[{}] Evicted published projects of assignment {}", PublishedProjectCache.class.getSimpleName(), event.assignmentId());
+    }
+
+    // Cached lists embed member profiles; profile edits are rare, so dropping every assignment is cheaper than tracking them
+    @TransactionalEventListener(fallbackExecution = true)
+    @CacheEvict(cacheNames = CACHE_NAME, allEntries = true)
+    public void onUserProfileChanged(UserProfileChangedEvent event) {
+        logger.debug("[{}] Evicted all published projects after profile change of user {}", PublishedProjectCache.class.getSimpleName(), event.userId());
+    }
+}
@@ -7,18 +7,29 @@ import com.ehb.connected.domain.impl.applications.service.ApplicationService;
 import com.ehb.connected.domain.impl.feedbacks.dto.FeedbackCreateDto;
 import com.ehb.connected.domain.impl.feedbacks.dto.FeedbackDto;
 import com.ehb.connected.domain.impl.feedbacks.service.FeedbackService;
+import com.ehb.connected.domain.impl.projects.dto.ProjectCatalogPageDto;
+import com.ehb.connected.domain.impl.projects.dto.ProjectCatalogSort;
 import com.ehb.connected.domain.impl.projects.dto.ProjectCreateDto;
 import com.ehb.connected.domain.impl.projects.dto.ProjectDetailsDto;
+import com.ehb.connected.domain.impl.projects.dto.ProjectListItemDto;
+import com.ehb.connected.domain.impl.projects.dto.ProjectSearchPageDto;
 import com.ehb.connected.domain.impl.projects.dto.ProjectUpdateDto;
 import com.ehb.connected.domain.impl.projects.entities.ProjectStatusEnum;
 import com.ehb.connected.domain.impl.projects.events.dto.ProjectEventDetailsDto;
+import com.ehb.connected.domain.impl.projects.events.dto.ProjectEventPageDto;
+import com.ehb.connected.domain.impl.projects.events.entities.ProjectEventType;
 import com.ehb.connected.domain.impl.projects.events.service.ProjectEventService;
+import com.ehb.connected.domain.impl.projects.recommendations.ProjectRecommendationDto;
+import com.ehb.connected.domain.impl.projects.recommendations.ProjectRecommendationService;
 import com.ehb.connected.domain.impl.projects.service.ProjectService;
 import com.ehb.connected.domain.impl.reviews.dto.ReviewCreateDto;
 import com.ehb.connected.domain.impl.reviews.dto.ReviewDetailsDto;
 import com.ehb.connected.domain.impl.reviews.service.ReviewService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -30,9 +41,13 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/projects")
@@ -44,11 +59,29 @@ public class ProjectController {
     private final ApplicationService applicationService;
     private final ReviewService reviewService;
     private final ProjectEventService projectEventService;
+    private final ProjectRecommendationService projectRecommendationService;
+
+    @PreAuthorize("hasAnyAuthority('project:read')")
+    @GetMapping("/search")
+    public ResponseEntity<ProjectSearchPageDto> searchProjects(Authentication authentication,
+                                                               @RequestParam String query,
+                                                               @RequestParam(required = false) Long assignmentId,
+                                                               @RequestParam(defaultValue = "0") int page,
+                                                               @RequestParam(defaultValue = "20") int size){
+        return ResponseEntity.ok(projectService.searchProjects(authentication, query, assignmentId, page, size));
+    }
 
     @PreAuthorize("hasAnyAuthority('project:read')")
     @GetMapping("/{projectId}")
-    public ResponseEntity<ProjectDetailsDto> getProjectById(Authentication authentication, @PathVariable Long projectId){
-        return ResponseEntity.ok(projectService.getProjectById(authentication, projectId));
+    public ResponseEntity<ProjectDetailsDto> getProjectById(Authentication authentication, @PathVariable Long projectId, WebRequest request){
+        // Authorizes the caller before anything about the project is revealed
+        String eTag = projectService.getProjectETag(authentication, projectId);
+        // The representation depends on the session, so caches must not share it between users
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).varyBy(HttpHeaders.COOKIE).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).varyBy(HttpHeaders.COOKIE)
+                .body(projectService.getProjectById(authentication, projectId));
     }
 
     //TODO: find better endpoint
@@ -58,6 +91,12 @@ public class ProjectController {
         return ResponseEntity.ok(projectService.getAllProjectsByAssignmentId(assignmentId));
     }
 
+    @PreAuthorize("hasAnyAuthority('project:read_all')")
+    @GetMapping("/assignment/{assignmentId}/summary")
+    public ResponseEntity<List<ProjectListItemDto>> getAllProjectSummaries(@PathVariable Long assignmentId){
+        return ResponseEntity.ok(projectService.getProjectSummariesByAssignmentId(assignmentId));
+    }
+
     @PreAuthorize("hasAnyAuthority('project:read')")
     @GetMapping("/member/assignment/{assignmentId}")
     public ResponseEntity<ProjectDetailsDto> getProjectByUserAndAssignmentId(Authentication authentication, @PathVariable Long assignmentId){
@@ -70,6 +109,32 @@ public class ProjectController {
         return ResponseEntity.ok(projectService.getAllPublishedOrOwnedProjectsByAssignmentId(authentication, assignmentId));
     }
 
+    @PreAuthorize("hasAnyAuthority('project:read_published_or_owned')")
+    @GetMapping("/{assignmentId}/published/summary")
+    public ResponseEntity<List<ProjectListItemDto>> getAllPublishedProjectSummaries(Authentication authentication, @PathVariable Long assignmentId){
+        return ResponseEntity.ok(projectService.getPublishedOrOwnedProjectSummariesByAssignmentId(authentication, assignmentId));
+    }
+
+    @PreAuthorize("hasAnyAuthority('project:read_published_or_owned')")
+    // Published projects by default, teachers may page through other statuses
+    @GetMapping("/{assignmentId}/catalog")
+    public ResponseEntity<ProjectCatalogPageDto> getProjectCatalogPage(Authentication authentication, @PathVariable Long assignmentId,
+                                                                       @RequestParam(required = false) ProjectStatusEnum status,
+                                                                       @RequestParam(required = false) Long tagId,
+                                                                       @RequestParam(defaultValue = "ID") ProjectCatalogSort sort,
+                                                                       @RequestParam(required = false) Long afterId,
+                                                                       @RequestParam(required = false) String afterTitle,
+                                                                       @RequestParam(defaultValue = "20") int limit){
+        return ResponseEntity.ok(projectService.getProjectCatalogPage(authentication, assignmentId, status, tagId, sort, afterId, afterTitle, limit));
+    }
+
+    @PreAuthorize("hasAnyAuthority('project:read_published_or_owned')")
+    @GetMapping("/{assignmentId}/recommendations")
+    public ResponseEntity<List<ProjectRecommendationDto>> getRecommendedProjects(Authentication authentication, @PathVariable Long assignmentId,
+                                                                                 @RequestParam(defaultValue = "10") int limit){
+        return ResponseEntity.ok(projectRecommendationService.recommendProjects(authentication, assignmentId, limit));
+    }
+
     @PreAuthorize("hasAnyAuthority('project:create')")
     @PostMapping("/{assignmentId}")
     public ResponseEntity<ProjectDetailsDto> createProject(Authentication authentication, @PathVariable Long assignmentId, @RequestBody ProjectCreateDto project){
@@ -182,4 +247,14 @@ public class ProjectController {
         return ResponseEntity.ok(projectEventService.getEventsForProject(authentication, projectId));
     }
 
+    @PreAuthorize("hasAuthority('event:read')")
+    @GetMapping("/{projectId}/events/timeline")
+    public ResponseEntity<ProjectEventPageDto> getEventTimeline(Authentication authentication, @PathVariable Long projectId,
+                                                                @RequestParam(required = false) Set<ProjectEventType> types,
+                                                                @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime beforeTimestamp,
+                                                                @RequestParam(required = false) Long beforeId,
+                                                                @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(projectEventService.getEventTimeline(authentication, projectId, types, beforeTimestamp, beforeId, limit));
+    }
+
 }
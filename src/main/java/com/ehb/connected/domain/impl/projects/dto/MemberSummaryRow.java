@@ -0,0 +1,11 @@
+package com.ehb.connected.domain.impl.projects.dto;
+
+// JPQL constructor projection, see ProjectRepository#findMemberSummaryRowsByProjectIds
+public record MemberSummaryRow(
+        Long projectId,
+        Long id,
+        String firstName,
+        String lastName,
+        String profileImageUrl
+) {
+}
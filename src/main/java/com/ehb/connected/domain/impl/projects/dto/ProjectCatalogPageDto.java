@@ -0,0 +1,20 @@
+package com.ehb.connected.domain.impl.projects.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProjectCatalogPageDto {
+    private List<ProjectDetailsDto> items;
+    private boolean hasMore;
+    // Cursor for the next page, pass back as afterId / afterTitle
+    private Long nextAfterId;
+    private String nextAfterTitle;
+}
@@ -0,0 +1,6 @@
+package com.ehb.connected.domain.impl.projects.dto;
+
+public enum ProjectCatalogSort {
+    ID,
+    TITLE
+}
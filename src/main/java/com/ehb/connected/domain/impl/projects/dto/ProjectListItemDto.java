@@ -0,0 +1,21 @@
+package com.ehb.connected.domain.impl.projects.dto;
+
+import com.ehb.connected.domain.impl.projects.entities.ProjectStatusEnum;
+
+import java.util.List;
+import java.util.UUID;
+
+public record ProjectListItemDto(
+        Long id,
+        UUID gid,
+        String title,
+        String shortDescription,
+        ProjectStatusEnum status,
+        int teamSize,
+        String backgroundImage,
+        Long productOwnerId,
+        List<Member> members
+) {
+    public record Member(Long id, String firstName, String lastName, String profileImageUrl) {
+    }
+}
@@ -0,0 +1,4 @@
+package com.ehb.connected.domain.impl.projects.dto;
+
+public record ProjectSearchHitDto(ProjectDetailsDto project, double score) {
+}
@@ -0,0 +1,20 @@
+package com.ehb.connected.domain.impl.projects.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProjectSearchPageDto {
+    private List<ProjectSearchHitDto> items;
+    private int page;
+    private int size;
+    private long totalElements;
+    private boolean hasMore;
+}
@@ -0,0 +1,7 @@
+package com.ehb.connected.domain.impl.projects.dto;
+
+// Native query projection, see ProjectRepository#searchInAssignment
+public interface ProjectSearchRow {
+    Long getId();
+    Double getScore();
+}
@@ -0,0 +1,18 @@
+package com.ehb.connected.domain.impl.projects.dto;
+
+import com.ehb.connected.domain.impl.projects.entities.ProjectStatusEnum;
+
+import java.util.UUID;
+
+// JPQL constructor projection, see ProjectRepository#findSummaryRowsByAssignmentId
+public record ProjectSummaryRow(
+        Long id,
+        UUID gid,
+        String title,
+        String shortDescription,
+        ProjectStatusEnum status,
+        int teamSize,
+        String backgroundImage,
+        Long productOwnerId
+) {
+}
@@ -0,0 +1,41 @@
+package com.ehb.connected.domain.impl.projects.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * One row per user that is a member of a non-rejected project in an assignment.
+ * Kept in step with Project.members by ProjectUserService; the unique key enforces one project per assignment.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "assignment_membership",
+        uniqueConstraints = @UniqueConstraint(name = "uk_assignment_membership_assignment_user", columnNames = {"assignment_id", "user_id"}),
+        indexes = @Index(name = "idx_assignment_membership_project", columnList = "project_id"))
+public class AssignmentMembership {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "assignment_id", nullable = false)
+    private Long assignmentId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+}
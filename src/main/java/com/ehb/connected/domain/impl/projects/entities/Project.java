@@ -4,6 +4,7 @@ import com.ehb.connected.domain.impl.applications.entities.Application;
 import com.ehb.connected.domain.impl.applications.entities.ApplicationStatusEnum;
 import com.ehb.connected.domain.impl.assignments.entities.Assignment;
 import com.ehb.connected.domain.impl.feedbacks.entities.Feedback;
+import com.ehb.connected.domain.impl.projects.helpers.HtmlHelper;
 import com.ehb.connected.domain.impl.tags.entities.Tag;
 import com.ehb.connected.domain.impl.users.entities.Role;
 import com.ehb.connected.domain.impl.users.entities.User;
@@ -19,13 +20,19 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import net.minidev.json.annotate.JsonIgnore;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.ArrayList;
 import java.util.EnumSet;
@@ -38,12 +45,26 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "projects")
+@NamedEntityGraph(
+        name = Project.DETAILS_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode("createdBy"),
+                @NamedAttributeNode("productOwner")
+        }
+)
 public class Project {
+    // Fetch plan for list endpoints: to-one users are joined, collections are batch loaded by IN lists
+    public static final String DETAILS_GRAPH = "Project.details";
+    public static final int BATCH_SIZE = 100;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     private UUID gid;
 
+    @Version
+    private Long version;
+
     private String title;
     @Column(columnDefinition = "TEXT")
     private String description;
@@ -57,6 +78,13 @@ public class Project {
 
     private int teamSize;
 
+    // Denormalized size of members, lets join and claim check capacity with a single conditional UPDATE
+    private int memberCount;
+
+    // HTML-stripped title, short description and description, backs the FULLTEXT search index
+    @Column(columnDefinition = "MEDIUMTEXT")
+    private String searchText;
+
     @ManyToOne
     @JoinColumn(name = "assignment_id")
     private Assignment assignment;
@@ -67,6 +95,7 @@ public class Project {
             joinColumns = @JoinColumn(name = "project_id"),
             inverseJoinColumns = @JoinColumn(name = "tag_id")
     )
+    @BatchSize(size = BATCH_SIZE)
     private List<Tag> tags = new ArrayList<>();
 
     @ManyToOne
@@ -87,6 +116,7 @@ public class Project {
             joinColumns = @JoinColumn(name = "project_id"),
             inverseJoinColumns = @JoinColumn(name = "user_id")
     )
+    @BatchSize(size = BATCH_SIZE)
     private List<User> members = new ArrayList<>();
 
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL)
@@ -95,6 +125,17 @@ public class Project {
     private static final EnumSet<ProjectStatusEnum> LOCKED =
             EnumSet.of(ProjectStatusEnum.APPROVED, ProjectStatusEnum.REJECTED, ProjectStatusEnum.PUBLISHED);
 
+    @PrePersist
+    void onCreate() {
+        memberCount = members.size();
+        refreshSearchText();
+    }
+
+    @PreUpdate
+    void refreshSearchText() {
+        searchText = HtmlHelper.joinPlainText(title, shortDescription, description);
+    }
+
     public boolean isLocked() {
         return status != null && LOCKED.contains(status);
     }
@@ -114,7 +155,15 @@ public class Project {
     }
 
     public boolean hasReachedMaxMembers() {
-        return members.size() >= teamSize;
+        return memberCount >= teamSize;
+    }
+
+    public boolean removeMember(Long userId) {
+        boolean removed = members.removeIf(m -> m.getId().equals(userId));
+        if (removed) {
+            memberCount = members.size();
+        }
+        return removed;
     }
 
     public boolean isEditable(User user) {
@@ -0,0 +1,17 @@
+package com.ehb.connected.domain.impl.projects.events.archive;
+
+import com.ehb.connected.domain.impl.projects.events.entities.ProjectEventType;
+
+import java.time.LocalDateTime;
+
+/**
+ * One NDJSON line of an archive file.
+ */
+public record ArchivedProjectEvent(
+        Long id,
+        ProjectEventType type,
+        String message,
+        Long projectId,
+        Long userId,
+        LocalDateTime timestamp
+) {}
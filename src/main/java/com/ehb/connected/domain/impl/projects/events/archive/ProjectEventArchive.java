@@ -0,0 +1,53 @@
+package com.ehb.connected.domain.impl.projects.events.archive;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * A project_events partition that was exported to a gzipped NDJSON file and dropped from the table.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "project_event_archives",
+        uniqueConstraints = @UniqueConstraint(name = "uk_project_event_archives_partition", columnNames = "partition_name"))
+public class ProjectEventArchive {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "partition_name", nullable = false, length = 64)
+    private String partitionName;
+
+    // Exclusive upper bound of the partition
+    @Column(name = "range_end", nullable = false)
+    private LocalDateTime rangeEnd;
+
+    @Column(name = "min_timestamp", nullable = false)
+    private LocalDateTime minTimestamp;
+
+    @Column(name = "max_timestamp", nullable = false)
+    private LocalDateTime maxTimestamp;
+
+    @Column(name = "file_path", nullable = false, length = 512)
+    private String filePath;
+
+    @Column(name = "row_count", nullable = false)
+    private long rowCount;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,174 @@
+package com.ehb.connected.domain.impl.projects.events.archive;
+
+import com.ehb.connected.config.properties.ProjectEventProperties;
+import com.ehb.connected.domain.impl.projects.events.archive.ProjectEventPartitions.Partition;
+import com.ehb.connected.domain.impl.projects.events.entities.ProjectEventType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Moves project_events partitions past the retention window to compressed NDJSON files before dropping
+ * them. Upcoming months are split off by {@link ProjectEventPartitionJob}, which runs whether or not this
+ * job is enabled. Off by default: every instance reads the archive files back through
+ * {@link ProjectEventArchiveReader}, so the archive directory has to be a shared volume.
+ */
+@Component
+@ConditionalOnProperty(prefix = "connected.project-events.archive", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ProjectEventArchiveJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectEventArchiveJob.class);
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("^\\w+$");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProjectEventPartitions partitions;
+    private final ProjectEventArchiveRepository archiveRepository;
+    private final ProjectEventProperties properties;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    private record ProjectRange(LocalDateTime minTimestamp, LocalDateTime maxTimestamp) {}
+
+    private record ExportResult(long rowCount, LocalDateTime minTimestamp, LocalDateTime maxTimestamp,
+                                Map<Long, ProjectRange> projects) {}
+
+    @Scheduled(cron = "${connected.project-events.archive.cron:0 30 3 * * *}")
+    public void run() {
+        boolean ran = partitions.runExclusively(() -> {
+            List<Partition> current = partitions.loadPartitions();
+            if (current.isEmpty()) {
+                logger.warn("[{}] project_events is not partitioned, skipping", ProjectEventArchiveJob.class.getSimpleName());
+                return;
+            }
+            LocalDateTime cutoff = LocalDate.now().minus(properties.archive().retention()).withDayOfMonth(1).atStartOfDay();
+            for (Partition partition : current) {
+                if (partition.upperBound() != null && !partition.upperBound().isAfter(cutoff)) {
+                    archivePartition(partition);
+                }
+            }
+        });
+        if (!ran) {
+            logger.info("[{}] Partitions are being changed by another instance, skipping", ProjectEventArchiveJob.class.getSimpleName());
+        }
+    }
+
+    private void archivePartition(Partition partition) {
+        if (!PARTITION_NAME.matcher(partition.name()).matches()) {
+            logger.error("[{}] Refusing to archive partition with unexpected name {}", ProjectEventArchiveJob.class.getSimpleName(), partition.name());
+            return;
+        }
+        long start = System.currentTimeMillis();
+        // A previous run may have exported the partition but failed before dropping it
+        if (!archiveRepository.existsByPartitionName(partition.name())) {
+            Path file = Path.of(properties.archive().directory()).resolve("project_events_" + partition.name() + ".ndjson.gz");
+            ExportResult result = export(partition, file);
+            if (result.rowCount() > 0) {
+                transactionTemplate.executeWithoutResult(status -> {
+                    ProjectEventArchive archive = archiveRepository.save(new ProjectEventArchive(null, partition.name(),
+                            partition.upperBound(), result.minTimestamp(), result.maxTimestamp(),
+                            file.toAbsolutePath().toString(), result.rowCount(), LocalDateTime.now()));
+                    saveProjects(archive.getId(), result.projects());
+                });
+            } else {
+                deleteQuietly(file);
+            }
+            logger.info("[{}] Exported {} events from partition {}", ProjectEventArchiveJob.class.getSimpleName(), result.rowCount(), partition.name());
+        }
+        partitions.dropPartition(partition.name());
+        logger.info("[{}] Dropped partition {} in {} ms", ProjectEventArchiveJob.class.getSimpleName(), partition.name(), System.currentTimeMillis() - start);
+    }
+
+    private ExportResult export(Partition partition, Path file) {
+        try {
+            Files.createDirectories(file.getParent());
+            Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+            long[] count = {0};
+            LocalDateTime[] range = new LocalDateTime[2];
+            Map<Long, ProjectRange> projects = new HashMap<>();
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(temporary)), StandardCharsets.UTF_8))) {
+                jdbcTemplate.query(connection -> {
+                    PreparedStatement statement = connection.prepareStatement(
+                            "select id, type, message, project_id, user_id, timestamp from project_events partition ("
+                                    + partition.name() + ") order by timestamp, id",
+                            ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    // Stream rows instead of buffering the whole partition in the driver
+                    statement.setFetchSize(Integer.MIN_VALUE);
+                    return statement;
+                }, rs -> {
+                    ArchivedProjectEvent event = new ArchivedProjectEvent(
+                            rs.getLong("id"),
+                            ProjectEventType.valueOf(rs.getString("type")),
+                            rs.getString("message"),
+                            rs.getLong("project_id"),
+                            rs.getObject("user_id", Long.class),
+                            rs.getTimestamp("timestamp").toLocalDateTime());
+                    try {
+                        writer.write(objectMapper.writeValueAsString(event));
+                        writer.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    if (range[0] == null) {
+                        range[0] = event.timestamp();
+                    }
+                    range[1] = event.timestamp();
+                    // Rows come in timestamp order, so the first one seen per project is its minimum
+                    projects.merge(event.projectId(), new ProjectRange(event.timestamp(), event.timestamp()),
+                            (first, latest) -> new ProjectRange(first.minTimestamp(), latest.maxTimestamp()));
+                    count[0]++;
+                });
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return new ExportResult(count[0], range[0], range[1], projects);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to export partition " + partition.name(), e);
+        }
+    }
+
+    private void saveProjects(Long archiveId, Map<Long, ProjectRange> projects) {
+        List<Object[]> rows = new ArrayList<>(projects.size());
+        projects.forEach((projectId, range) -> rows.add(new Object[]{
+                archiveId, projectId, Timestamp.valueOf(range.minTimestamp()), Timestamp.valueOf(range.maxTimestamp())}));
+        jdbcTemplate.batchUpdate(
+                "insert into project_event_archive_projects (archive_id, project_id, min_timestamp, max_timestamp) values (?, ?, ?, ?)",
+                rows);
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("[{}] Could not delete empty archive {}", ProjectEventArchiveJob.class.getSimpleName(), file, e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.ehb.connected.domain.impl.projects.events.archive;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * A project with events in a {@link ProjectEventArchive}, and the time range those events cover.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "project_event_archive_projects")
+public class ProjectEventArchiveProject {
+    @EmbeddedId
+    private ProjectEventArchiveProjectId id;
+
+    @Column(name = "min_timestamp", nullable = false)
+    private LocalDateTime minTimestamp;
+
+    @Column(name = "max_timestamp", nullable = false)
+    private LocalDateTime maxTimestamp;
+}
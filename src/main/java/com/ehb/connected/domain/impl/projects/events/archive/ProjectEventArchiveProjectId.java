@@ -0,0 +1,25 @@
+package com.ehb.connected.domain.impl.projects.events.archive;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class ProjectEventArchiveProjectId implements Serializable {
+    @Column(name = "archive_id", nullable = false)
+    private Long archiveId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+}
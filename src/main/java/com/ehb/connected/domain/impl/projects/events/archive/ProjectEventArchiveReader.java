@@ -0,0 +1,116 @@
+package com.ehb.connected.domain.impl.projects.events.archive;
+
+import com.ehb.connected.domain.impl.projects.events.dto.ProjectEventDetailsDto;
+import com.ehb.connected.domain.impl.projects.events.entities.ProjectEventType;
+import com.ehb.connected.domain.impl.users.entities.User;
+import com.ehb.connected.domain.impl.users.repositories.UserRepository;
+import com.ehb.connected.exceptions.BaseRuntimeException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Serves project events that were moved out of project_events by {@link ProjectEventArchiveJob}.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectEventArchiveReader {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectEventArchiveReader.class);
+
+    private static final Comparator<ArchivedProjectEvent> NEWEST_FIRST = Comparator
+            .comparing(ArchivedProjectEvent::timestamp)
+            .thenComparing(ArchivedProjectEvent::id)
+            .reversed();
+
+    private final ProjectEventArchiveRepository archiveRepository;
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Returns up to {@code limit} archived events of a project older than the (timestamp, id) cursor, newest first.
+     */
+    public List<ProjectEventDetailsDto> findEvents(Long projectId, Set<ProjectEventType> types,
+                                                   LocalDateTime beforeTimestamp, Long beforeId, int limit) {
+        List<ArchivedProjectEvent> events = new ArrayList<>();
+        // Only files that hold events of the project before the cursor are opened, newest first until the page is full
+        for (ProjectEventArchive archive : archiveRepository.findAllHoldingProject(projectId, beforeTimestamp)) {
+            if (events.size() >= limit) {
+                break;
+            }
+            List<ArchivedProjectEvent> matches = readMatches(archive, projectId, types, beforeTimestamp, beforeId);
+            matches.sort(NEWEST_FIRST);
+            events.addAll(matches.subList(0, Math.min(matches.size(), limit - events.size())));
+        }
+        return toDetailsDtos(events);
+    }
+
+    private List<ArchivedProjectEvent> readMatches(ProjectEventArchive archive, Long projectId, Set<ProjectEventType> types,
+                                                   LocalDateTime beforeTimestamp, Long beforeId) {
+        List<ArchivedProjectEvent> matches = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(Path.of(archive.getFilePath()))), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                ArchivedProjectEvent event = objectMapper.readValue(line, ArchivedProjectEvent.class);
+                if (projectId.equals(event.projectId())
+                        && types.contains(event.type())
+                        && isBefore(event, beforeTimestamp, beforeId)) {
+                    matches.add(event);
+                }
+            }
+        } catch (IOException e) {
+            logger.error("[{}] Failed to read archive {}", ProjectEventArchiveReader.class.getSimpleName(), archive.getFilePath(), e);
+            throw new BaseRuntimeException("Archived project events are unavailable", HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        return matches;
+    }
+
+    private static boolean isBefore(ArchivedProjectEvent event, LocalDateTime beforeTimestamp, Long beforeId) {
+        if (beforeTimestamp == null) {
+            return true;
+        }
+        return event.timestamp().isBefore(beforeTimestamp)
+                || (event.timestamp().isEqual(beforeTimestamp) && event.id() < beforeId);
+    }
+
+    private List<ProjectEventDetailsDto> toDetailsDtos(List<ArchivedProjectEvent> events) {
+        if (events.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, String> actorNames = userRepository.findAllById(events.stream()
+                        .map(ArchivedProjectEvent::userId)
+                        .filter(Objects::nonNull)
+                        .distinct()
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(User::getId, User::getFullName, (first, second) -> first));
+        return events.stream()
+                .map(event -> new ProjectEventDetailsDto(
+                        event.id(),
+                        event.type(),
+                        event.message(),
+                        event.userId() != null ? actorNames.getOrDefault(event.userId(), "System") : "System",
+                        event.timestamp()))
+                .toList();
+    }
+}
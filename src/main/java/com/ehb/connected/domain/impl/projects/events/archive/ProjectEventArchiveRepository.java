@@ -0,0 +1,32 @@
+package com.ehb.connected.domain.impl.projects.events.archive;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ProjectEventArchiveRepository extends JpaRepository<ProjectEventArchive, Long> {
+    boolean existsByPartitionName(String partitionName);
+
+    /**
+     * Archives holding events of the project at or before the timestamp (all of them when null), newest first.
+     * Archives written before their projects were recorded are always returned.
+     */
+    @Query("""
+            select a from ProjectEventArchive a
+            where exists (
+                select 1 from ProjectEventArchiveProject ap
+                where ap.id.archiveId = a.id
+                  and ap.id.projectId = :projectId
+                  and (:beforeTimestamp is null or ap.minTimestamp <= :beforeTimestamp)
+            )
+            or not exists (select 1 from ProjectEventArchiveProject ap where ap.id.archiveId = a.id)
+            order by a.rangeEnd desc
+            """)
+    List<ProjectEventArchive> findAllHoldingProject(@Param("projectId") Long projectId,
+                                                    @Param("beforeTimestamp") LocalDateTime beforeTimestamp);
+}
@@ -0,0 +1,39 @@
+package com.ehb.connected.domain.impl.projects.events.archive;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Keeps the upcoming months split off pmax, independently of archiving. On by default and safe on every
+ * node: only the instance holding the partition lock runs the DDL.
+ */
+@Component
+@ConditionalOnProperty(prefix = "connected.project-events.partitions", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class ProjectEventPartitionJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectEventPartitionJob.class);
+
+    private final ProjectEventPartitions partitions;
+
+    @Scheduled(cron = "${connected.project-events.partitions.cron:0 0 3 * * *}")
+    public void run() {
+        boolean ran = partitions.runExclusively(() -> {
+            List<ProjectEventPartitions.Partition> current = partitions.loadPartitions();
+            if (current.isEmpty()) {
+                logger.warn("[{}] project_events is not partitioned, skipping", ProjectEventPartitionJob.class.getSimpleName());
+                return;
+            }
+            partitions.ensureUpcomingPartitions(current);
+        });
+        if (!ran) {
+            logger.info("[{}] Another instance is maintaining partitions, skipping", ProjectEventPartitionJob.class.getSimpleName());
+        }
+    }
+}
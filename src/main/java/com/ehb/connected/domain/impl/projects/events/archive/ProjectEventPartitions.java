@@ -0,0 +1,112 @@
+package com.ehb.connected.domain.impl.projects.events.archive;
+
+import com.ehb.connected.config.properties.ProjectEventProperties;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Reads and reshapes the monthly range partitions of project_events. Partition DDL is serialized across
+ * instances with a MySQL named lock, so every node may run the jobs that use it.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectEventPartitions {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectEventPartitions.class);
+
+    private static final String LOCK_NAME = "project_events_partitions";
+    private static final String OVERFLOW_PARTITION = "pmax";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final DateTimeFormatter BOUND_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProjectEventProperties properties;
+
+    record Partition(String name, LocalDateTime upperBound) {}
+
+    /**
+     * Runs the task while holding the partition lock. Returns false without running it when another
+     * instance holds the lock.
+     */
+    boolean runExclusively(Runnable task) {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            try (PreparedStatement lock = connection.prepareStatement("select get_lock(?, 0)")) {
+                lock.setString(1, LOCK_NAME);
+                try (ResultSet rs = lock.executeQuery()) {
+                    if (!rs.next() || rs.getInt(1) != 1) {
+                        return false;
+                    }
+                }
+            }
+            try {
+                task.run();
+                return true;
+            } finally {
+                try (PreparedStatement release = connection.prepareStatement("select release_lock(?)")) {
+                    release.setString(1, LOCK_NAME);
+                    release.executeQuery().close();
+                }
+            }
+        }));
+    }
+
+    List<Partition> loadPartitions() {
+        return jdbcTemplate.query("""
+                        select partition_name, partition_description
+                        from information_schema.partitions
+                        where table_schema = database()
+                          and table_name = 'project_events'
+                          and partition_name is not null
+                        order by partition_ordinal_position
+                        """,
+                (rs, rowNum) -> new Partition(rs.getString(1), parseBound(rs.getString(2))));
+    }
+
+    private static LocalDateTime parseBound(String description) {
+        if (description == null || description.equalsIgnoreCase("MAXVALUE")) {
+            return null;
+        }
+        // RANGE COLUMNS descriptions look like '2026-10-01 00:00:00'
+        String value = description.replace("'", "");
+        return LocalDateTime.parse(value.substring(0, 19), BOUND_FORMAT);
+    }
+
+    void ensureUpcomingPartitions(List<Partition> partitions) {
+        if (partitions.stream().noneMatch(partition -> OVERFLOW_PARTITION.equals(partition.name()))) {
+            logger.warn("[{}] No {} partition to split, skipping partition maintenance", ProjectEventPartitions.class.getSimpleName(), OVERFLOW_PARTITION);
+            return;
+        }
+        LocalDateTime lastBound = partitions.stream()
+                .map(Partition::upperBound)
+                .filter(Objects::nonNull)
+                .reduce((first, second) -> second)
+                .orElse(YearMonth.now().atDay(1).atStartOfDay());
+        LocalDateTime target = YearMonth.now().plusMonths(properties.partitions().monthsAhead() + 1L).atDay(1).atStartOfDay();
+
+        while (lastBound.isBefore(target)) {
+            LocalDateTime nextBound = lastBound.plusMonths(1);
+            String name = "p" + lastBound.format(PARTITION_SUFFIX);
+            jdbcTemplate.execute("alter table project_events reorganize partition " + OVERFLOW_PARTITION + " into ("
+                    + "partition " + name + " values less than ('" + nextBound.format(BOUND_FORMAT) + "'), "
+                    + "partition " + OVERFLOW_PARTITION + " values less than (maxvalue))");
+            logger.info("[{}] Added partition {}", ProjectEventPartitions.class.getSimpleName(), name);
+            lastBound = nextBound;
+        }
+    }
+
+    void dropPartition(String name) {
+        jdbcTemplate.execute("alter table project_events drop partition " + name);
+    }
+}
@@ -0,0 +1,13 @@
+package com.ehb.connected.domain.impl.projects.events.dto;
+
+import com.ehb.connected.domain.impl.projects.events.entities.ProjectEventType;
+
+import java.time.LocalDateTime;
+
+public record PendingProjectEvent(
+        Long projectId,
+        Long userId,
+        ProjectEventType type,
+        String message,
+        LocalDateTime timestamp
+) {}
@@ -1,6 +1,7 @@
 package com.ehb.connected.domain.impl.projects.events.dto;
 
 import com.ehb.connected.domain.impl.projects.events.entities.ProjectEventType;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -10,7 +11,9 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @NoArgsConstructor
+@AllArgsConstructor
 public class ProjectEventDetailsDto {
+    private Long id;
     private ProjectEventType type;
     private String message;
     private String username;
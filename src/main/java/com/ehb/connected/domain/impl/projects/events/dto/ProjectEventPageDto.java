@@ -0,0 +1,21 @@
+package com.ehb.connected.domain.impl.projects.events.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProjectEventPageDto {
+    private List<ProjectEventDetailsDto> items;
+    private boolean hasMore;
+    // Cursor for the next page, pass back as beforeTimestamp / beforeId
+    private LocalDateTime nextBeforeTimestamp;
+    private Long nextBeforeId;
+}
@@ -0,0 +1,9 @@
+package com.ehb.connected.domain.impl.projects.events.dto;
+
+import java.util.List;
+
+/**
+ * Published by the event writer after a batch reached the database; {@code ids} lines up with {@code events}.
+ */
+public record ProjectEventsPersistedEvent(List<PendingProjectEvent> events, List<Long> ids) {
+}
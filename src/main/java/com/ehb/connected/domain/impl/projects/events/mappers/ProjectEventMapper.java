@@ -11,6 +11,7 @@ public class ProjectEventMapper {
 
     public ProjectEventDetailsDto toDetailsDto(ProjectEvent event) {
         ProjectEventDetailsDto dto = new ProjectEventDetailsDto();
+        dto.setId(event.getId());
         dto.setType(event.getType());
         dto.setMessage(event.getMessage());
         dto.setDate(event.getTimestamp());
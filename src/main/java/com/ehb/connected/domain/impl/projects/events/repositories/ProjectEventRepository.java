@@ -1,12 +1,60 @@
 package com.ehb.connected.domain.impl.projects.events.repositories;
 
+import com.ehb.connected.domain.impl.projects.events.dto.ProjectEventDetailsDto;
 import com.ehb.connected.domain.impl.projects.events.entities.ProjectEvent;
+import com.ehb.connected.domain.impl.projects.events.entities.ProjectEventType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ProjectEventRepository extends JpaRepository<ProjectEvent, Long> {
+    @EntityGraph(attributePaths = "actor")
     List<ProjectEvent> findAllByProjectIdOrderByTimestampDesc(Long projectId);
+
+    @Query("select coalesce(max(e.id), 0) from ProjectEvent e")
+    long findMaxId();
+
+    // The partitioned table has no foreign key to users any more, so this replaces its ON DELETE SET NULL
+    @Modifying
+    @Query("update ProjectEvent e set e.actor = null where e.actor.id = :userId")
+    int clearActor(@Param("userId") Long userId);
+
+    // Timeline keyset queries, newest first, seeking on (timestamp, id) in idx_project_events_project_timestamp_id
+    @Query("""
+              select new com.ehb.connected.domain.impl.projects.events.dto.ProjectEventDetailsDto(
+                e.id, e.type, e.message, coalesce(concat(a.firstName, ' ', a.lastName), 'System'), e.timestamp)
+              from ProjectEvent e
+              left join e.actor a
+              where e.project.id = :projectId
+                and e.type in :types
+              order by e.timestamp desc, e.id desc
+            """)
+    List<ProjectEventDetailsDto> findTimelineFirstPage(@Param("projectId") Long projectId,
+                                                       @Param("types") Collection<ProjectEventType> types,
+                                                       Limit limit);
+
+    @Query("""
+              select new com.ehb.connected.domain.impl.projects.events.dto.ProjectEventDetailsDto(
+                e.id, e.type, e.message, coalesce(concat(a.firstName, ' ', a.lastName), 'System'), e.timestamp)
+              from ProjectEvent e
+              left join e.actor a
+              where e.project.id = :projectId
+                and e.type in :types
+                and (e.timestamp < :beforeTimestamp or (e.timestamp = :beforeTimestamp and e.id < :beforeId))
+              order by e.timestamp desc, e.id desc
+            """)
+    List<ProjectEventDetailsDto> findTimelinePage(@Param("projectId") Long projectId,
+                                                  @Param("types") Collection<ProjectEventType> types,
+                                                  @Param("beforeTimestamp") LocalDateTime beforeTimestamp,
+                                                  @Param("beforeId") Long beforeId,
+                                                  Limit limit);
 }
@@ -0,0 +1,51 @@
+package com.ehb.connected.domain.impl.projects.events.service;
+
+import com.ehb.connected.domain.impl.projects.events.dto.PendingProjectEvent;
+import com.ehb.connected.domain.impl.projects.events.dto.ProjectEventDetailsDto;
+import com.ehb.connected.domain.impl.projects.events.dto.ProjectEventsPersistedEvent;
+import com.ehb.connected.domain.impl.users.entities.User;
+import com.ehb.connected.domain.impl.users.repositories.UserRepository;
+import com.ehb.connected.websockets.WebSocketService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Pushes freshly written project events to {@code /topic/projects/{id}/events} subscribers.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectEventBroadcaster {
+
+    private final UserRepository userRepository;
+    private final WebSocketService webSocketService;
+
+    @EventListener
+    public void onEventsPersisted(ProjectEventsPersistedEvent persisted) {
+        // One lookup per batch for all actor names
+        final List<Long> actorIds = persisted.events().stream()
+                .map(PendingProjectEvent::userId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        final Map<Long, String> actorNames = userRepository.findAllById(actorIds).stream()
+                .collect(Collectors.toMap(User::getId, User::getFullName, (first, second) -> first));
+
+        for (int i = 0; i < persisted.events().size(); i++) {
+            PendingProjectEvent event = persisted.events().get(i);
+            ProjectEventDetailsDto dto = new ProjectEventDetailsDto(
+                    persisted.ids().get(i),
+                    event.type(),
+                    event.message(),
+                    event.userId() != null ? actorNames.getOrDefault(event.userId(), "System") : "System",
+                    event.timestamp()
+            );
+            webSocketService.sendProjectEvent(event.projectId(), dto);
+        }
+    }
+}
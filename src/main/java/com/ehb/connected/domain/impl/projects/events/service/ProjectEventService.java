@@ -1,12 +1,19 @@
 package com.ehb.connected.domain.impl.projects.events.service;
 
 import com.ehb.connected.domain.impl.projects.events.dto.ProjectEventDetailsDto;
+import com.ehb.connected.domain.impl.projects.events.dto.ProjectEventPageDto;
 import com.ehb.connected.domain.impl.projects.events.entities.ProjectEventType;
 import org.springframework.security.core.Authentication;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 public interface ProjectEventService {
     List<ProjectEventDetailsDto> getEventsForProject(Authentication authentication, Long projectId);
+    ProjectEventPageDto getEventTimeline(Authentication authentication, Long projectId, Set<ProjectEventType> types,
+                                         LocalDateTime beforeTimestamp, Long beforeId, int limit);
     void logEvent(Long projectId, Long userId, ProjectEventType type, String message);
+    void logEvents(Collection<Long> projectIds, Long userId, ProjectEventType type, String message);
 }
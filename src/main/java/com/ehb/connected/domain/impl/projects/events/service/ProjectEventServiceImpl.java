@@ -1,42 +1,86 @@
 package com.ehb.connected.domain.impl.projects.events.service;
 
+import com.ehb.connected.domain.impl.projects.events.archive.ProjectEventArchiveReader;
+import com.ehb.connected.domain.impl.projects.events.dto.PendingProjectEvent;
 import com.ehb.connected.domain.impl.projects.events.dto.ProjectEventDetailsDto;
-import com.ehb.connected.domain.impl.projects.events.entities.ProjectEvent;
+import com.ehb.connected.domain.impl.projects.events.dto.ProjectEventPageDto;
 import com.ehb.connected.domain.impl.projects.events.entities.ProjectEventType;
 import com.ehb.connected.domain.impl.projects.events.mappers.ProjectEventMapper;
 import com.ehb.connected.domain.impl.projects.events.repositories.ProjectEventRepository;
-import com.ehb.connected.domain.impl.projects.repositories.ProjectRepository;
-import com.ehb.connected.domain.impl.users.repositories.UserRepository;
+import com.ehb.connected.pagination.KeysetPage;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class ProjectEventServiceImpl implements ProjectEventService {
 
+    private static final int MAX_TIMELINE_PAGE_SIZE = 100;
+
     private final ProjectEventRepository projectEventRepository;
-    private final ProjectRepository projectRepository;
-    private final UserRepository userRepository;
+    private final ProjectEventSink projectEventSink;
     private final ProjectEventMapper eventMapper;
+    private final ProjectEventArchiveReader archiveReader;
 
     @Override
     public List<ProjectEventDetailsDto> getEventsForProject(Authentication authentication, Long projectId) {
-        return projectEventRepository.findAllByProjectIdOrderByTimestampDesc(projectId)
+        final List<ProjectEventDetailsDto> events = new ArrayList<>(projectEventRepository.findAllByProjectIdOrderByTimestampDesc(projectId)
                 .stream()
                 .map(eventMapper::toDetailsDto)
-                .toList();
+                .toList());
+        // Archived partitions are all older than anything still in the table
+        events.addAll(archiveReader.findEvents(projectId, EnumSet.allOf(ProjectEventType.class), null, null, Integer.MAX_VALUE));
+        return events;
+    }
+
+    @Override
+    public ProjectEventPageDto getEventTimeline(Authentication authentication, Long projectId, Set<ProjectEventType> types,
+                                                LocalDateTime beforeTimestamp, Long beforeId, int limit) {
+        KeysetPage.requireCompleteCursor(beforeTimestamp, beforeId, "beforeTimestamp", "beforeId");
+        final Set<ProjectEventType> effectiveTypes = types == null || types.isEmpty() ? EnumSet.allOf(ProjectEventType.class) : types;
+        final int pageSize = Math.clamp(limit, 1, MAX_TIMELINE_PAGE_SIZE);
+        final Limit fetchLimit = KeysetPage.fetchLimit(pageSize);
+        final List<ProjectEventDetailsDto> rows = new ArrayList<>(beforeId == null
+                ? projectEventRepository.findTimelineFirstPage(projectId, effectiveTypes, fetchLimit)
+                : projectEventRepository.findTimelinePage(projectId, effectiveTypes, beforeTimestamp, beforeId, fetchLimit));
+        if (rows.size() <= pageSize) {
+            // Hot table exhausted, continue the same cursor into the archived partitions
+            final ProjectEventDetailsDto lastHot = rows.isEmpty() ? null : rows.getLast();
+            rows.addAll(archiveReader.findEvents(projectId, effectiveTypes,
+                    lastHot != null ? lastHot.getDate() : beforeTimestamp,
+                    lastHot != null ? lastHot.getId() : beforeId,
+                    KeysetPage.fetchSize(pageSize) - rows.size()));
+        }
+
+        final KeysetPage<ProjectEventDetailsDto> page = KeysetPage.of(rows, pageSize);
+        final ProjectEventDetailsDto next = page.nextCursor();
+        return new ProjectEventPageDto(
+                page.items(),
+                page.hasMore(),
+                next != null ? next.getDate() : null,
+                next != null ? next.getId() : null
+        );
     }
 
     @Override
     public void logEvent(Long projectId, Long userId, ProjectEventType type, String message) {
-        ProjectEvent event = new ProjectEvent();
-        event.setProject(projectRepository.getReferenceById(projectId));
-        event.setActor(userId != null ? userRepository.getReferenceById(userId) : null);
-        event.setType(type);
-        event.setMessage(message);
-        projectEventRepository.save(event);
+        projectEventSink.enqueue(List.of(new PendingProjectEvent(projectId, userId, type, message, LocalDateTime.now())));
+    }
+
+    @Override
+    public void logEvents(Collection<Long> projectIds, Long userId, ProjectEventType type, String message) {
+        LocalDateTime timestamp = LocalDateTime.now();
+        projectEventSink.enqueue(projectIds.stream()
+                .map(projectId -> new PendingProjectEvent(projectId, userId, type, message, timestamp))
+                .toList());
     }
 }
@@ -0,0 +1,200 @@
+package com.ehb.connected.domain.impl.projects.events.service;
+
+import com.ehb.connected.config.properties.ProjectEventProperties;
+import com.ehb.connected.domain.impl.projects.events.dto.PendingProjectEvent;
+import com.ehb.connected.domain.impl.projects.events.dto.ProjectEventsPersistedEvent;
+import com.ehb.connected.jdbc.BatchWrites;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind buffer for project events, drained by a single writer thread in multi-row inserts.
+ */
+@Component
+public class ProjectEventSink {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectEventSink.class);
+
+    private static final String INSERT_PREFIX = "insert into project_events (type, message, project_id, user_id, timestamp) values ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProjectEventProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BlockingQueue<PendingProjectEvent> queue;
+    private final Timer flushTimer;
+    private final Counter overflowCounter;
+    private final Counter failedCounter;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public ProjectEventSink(JdbcTemplate jdbcTemplate, ProjectEventProperties properties,
+                            ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+        meterRegistry.gauge("connected.project.events.queue.size", queue, BlockingQueue::size);
+        this.flushTimer = Timer.builder("connected.project.events.flush")
+                .description("Time spent writing one batch of project events")
+                .register(meterRegistry);
+        this.overflowCounter = Counter.builder("connected.project.events.overflow")
+                .description("Events written on the caller thread because the queue was full")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("connected.project.events.failed")
+                .description("Events that could not be written")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        writer = Thread.ofPlatform()
+                .name("project-event-writer")
+                .daemon(true)
+                .start(this::drainLoop);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        writer.interrupt();
+        writer.join(properties.flushInterval().multipliedBy(10).toMillis());
+        // Whatever the writer did not get to is flushed on the shutdown thread
+        flushRemaining();
+    }
+
+    /**
+     * Queues the events once the surrounding transaction commits, or immediately outside a transaction.
+     */
+    public void enqueue(Collection<PendingProjectEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            offerAll(events);
+            return;
+        }
+        List<PendingProjectEvent> snapshot = List.copyOf(events);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                offerAll(snapshot);
+            }
+        });
+    }
+
+    private void offerAll(Collection<PendingProjectEvent> events) {
+        List<PendingProjectEvent> rejected = new ArrayList<>();
+        for (PendingProjectEvent event : events) {
+            if (!offer(event)) {
+                rejected.add(event);
+            }
+        }
+        if (!rejected.isEmpty()) {
+            // Backpressure: the caller pays for its own write instead of growing the buffer
+            overflowCounter.increment(rejected.size());
+            logger.warn("[{}] Event queue full, writing {} events synchronously", ProjectEventSink.class.getSimpleName(), rejected.size());
+            write(rejected);
+        }
+    }
+
+    private boolean offer(PendingProjectEvent event) {
+        try {
+            return queue.offer(event, properties.offerTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void drainLoop() {
+        List<PendingProjectEvent> batch = new ArrayList<>(properties.batchSize());
+        while (running) {
+            try {
+                PendingProjectEvent first = queue.poll(properties.flushInterval().toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, properties.batchSize() - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                logger.error("[{}] Unexpected error in event writer", ProjectEventSink.class.getSimpleName(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flushRemaining() {
+        List<PendingProjectEvent> batch = new ArrayList<>(properties.batchSize());
+        while (queue.drainTo(batch, properties.batchSize()) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<PendingProjectEvent> events) {
+        List<PendingProjectEvent> written = new ArrayList<>(events.size());
+        List<Long> ids = new ArrayList<>(events.size());
+        flushTimer.record(() -> {
+            try {
+                ids.addAll(insert(events));
+                written.addAll(events);
+            } catch (DataAccessException e) {
+                logger.warn("[{}] Batch insert of {} events failed, retrying row by row", ProjectEventSink.class.getSimpleName(), events.size(), e);
+                written.addAll(BatchWrites.retryRowByRow(events, event -> {
+                    try {
+                        ids.addAll(insert(List.of(event)));
+                        return event;
+                    } catch (DataAccessException rowFailure) {
+                        failedCounter.increment();
+                        logger.error("[{}] Dropping event {} for project {}", ProjectEventSink.class.getSimpleName(), event.type(), event.projectId(), rowFailure);
+                        return null;
+                    }
+                }));
+            }
+        });
+        if (!written.isEmpty()) {
+            try {
+                eventPublisher.publishEvent(new ProjectEventsPersistedEvent(written, ids));
+            } catch (RuntimeException e) {
+                logger.error("[{}] Failed to publish {} persisted events", ProjectEventSink.class.getSimpleName(), written.size(), e);
+            }
+        }
+    }
+
+    private List<Long> insert(List<PendingProjectEvent> events) {
+        return BatchWrites.insertReturningIds(jdbcTemplate, INSERT_PREFIX, ROW_PLACEHOLDER, events, event -> Arrays.asList(
+                event.type().name(),
+                event.message(),
+                event.projectId(),
+                event.userId(),
+                Timestamp.valueOf(event.timestamp())));
+    }
+}
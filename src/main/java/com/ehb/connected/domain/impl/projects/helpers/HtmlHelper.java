@@ -0,0 +1,43 @@
+package com.ehb.connected.domain.impl.projects.helpers;
+
+import java.util.regex.Pattern;
+
+public final class HtmlHelper {
+
+    private static final Pattern SCRIPT_OR_STYLE = Pattern.compile("(?is)<(script|style)[^>]*>.*?</\\1>");
+    private static final Pattern TAG = Pattern.compile("<[^>]*>");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private HtmlHelper() {
+    }
+
+    // Reduce rich text to plain words for the FULLTEXT index, markup and entities would otherwise be indexed as tokens
+    public static String toPlainText(String html) {
+        if (html == null || html.isBlank()) {
+            return "";
+        }
+        String text = SCRIPT_OR_STYLE.matcher(html).replaceAll(" ");
+        text = TAG.matcher(text).replaceAll(" ");
+        text = text.replace("&nbsp;", " ")
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&quot;", "\"")
+                .replace("&#39;", "'")
+                .replace("&amp;", "&");
+        return WHITESPACE.matcher(text).replaceAll(" ").trim();
+    }
+
+    public static String joinPlainText(String... parts) {
+        StringBuilder text = new StringBuilder();
+        for (String part : parts) {
+            String plain = toPlainText(part);
+            if (!plain.isEmpty()) {
+                if (!text.isEmpty()) {
+                    text.append(' ');
+                }
+                text.append(plain);
+            }
+        }
+        return text.toString();
+    }
+}
@@ -1,7 +1,10 @@
 package com.ehb.connected.domain.impl.projects.mappers;
 
+import com.ehb.connected.domain.impl.projects.dto.MemberSummaryRow;
 import com.ehb.connected.domain.impl.projects.dto.ProjectDetailsDto;
 import com.ehb.connected.domain.impl.projects.dto.ProjectCreateDto;
+import com.ehb.connected.domain.impl.projects.dto.ProjectListItemDto;
+import com.ehb.connected.domain.impl.projects.dto.ProjectSummaryRow;
 import com.ehb.connected.domain.impl.projects.dto.ProjectUpdateDto;
 import com.ehb.connected.domain.impl.projects.dto.ResearcherProjectDetailsDto;
 import com.ehb.connected.domain.impl.projects.entities.Project;
@@ -14,6 +17,8 @@ import org.springframework.stereotype.Component;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
@@ -78,6 +83,27 @@ public class ProjectMapper {
         project.getTags().addAll(tagMapper.toEntityList(dto.getTags()));
     }
 
+    public List<ProjectListItemDto> toListItems(List<ProjectSummaryRow> projects, List<MemberSummaryRow> members) {
+        Map<Long, List<ProjectListItemDto.Member>> membersByProject = members.stream()
+                .collect(Collectors.groupingBy(MemberSummaryRow::projectId, Collectors.mapping(
+                        m -> new ProjectListItemDto.Member(m.id(), m.firstName(), m.lastName(), m.profileImageUrl()),
+                        Collectors.toList())));
+
+        return projects.stream()
+                .map(p -> new ProjectListItemDto(
+                        p.id(),
+                        p.gid(),
+                        p.title(),
+                        p.shortDescription(),
+                        p.status(),
+                        p.teamSize(),
+                        p.backgroundImage(),
+                        p.productOwnerId(),
+                        membersByProject.getOrDefault(p.id(), Collections.emptyList())
+                ))
+                .toList();
+    }
+
     public ResearcherProjectDetailsDto toResearcherDetailsDto(Project project) {
         ProjectDetailsDto detailsDto = toDetailsDto(project);
         ResearcherProjectDetailsDto dto = new ResearcherProjectDetailsDto(detailsDto);
@@ -0,0 +1,82 @@
+package com.ehb.connected.domain.impl.projects.recommendations;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable inverted index of the published projects of one assignment.
+ * Projects are numbered 0..n-1, every tag maps to the set of project ordinals carrying it.
+ */
+final class AssignmentTagIndex {
+
+    private final long[] projectIds;
+    private final Map<Long, BitSet> postings;
+
+    private AssignmentTagIndex(long[] projectIds, Map<Long, BitSet> postings) {
+        this.projectIds = projectIds;
+        this.postings = postings;
+    }
+
+    static AssignmentTagIndex build(List<ProjectTagRow> rows) {
+        Map<Long, Integer> ordinals = new LinkedHashMap<>();
+        Map<Long, BitSet> postings = new HashMap<>();
+        for (ProjectTagRow row : rows) {
+            int ordinal = ordinals.computeIfAbsent(row.projectId(), id -> ordinals.size());
+            if (row.tagId() != null) {
+                postings.computeIfAbsent(row.tagId(), id -> new BitSet()).set(ordinal);
+            }
+        }
+        long[] projectIds = ordinals.keySet().stream().mapToLong(Long::longValue).toArray();
+        return new AssignmentTagIndex(projectIds, Map.copyOf(postings));
+    }
+
+    int size() {
+        return projectIds.length;
+    }
+
+    /**
+     * Scores every project by the summed rarity of the given tags it carries.
+     * A tag's weight is ln(1 + n / df), so a tag on few projects counts more than one on most of them.
+     */
+    List<Match> rank(Collection<Long> tagIds, int limit) {
+        if (projectIds.length == 0 || tagIds.isEmpty()) {
+            return List.of();
+        }
+        double[] scores = new double[projectIds.length];
+        BitSet matched = new BitSet(projectIds.length);
+        List<Long> usedTags = new ArrayList<>();
+        for (Long tagId : tagIds) {
+            BitSet projects = postings.get(tagId);
+            if (projects == null) {
+                continue;
+            }
+            usedTags.add(tagId);
+            double weight = Math.log1p((double) projectIds.length / projects.cardinality());
+            for (int i = projects.nextSetBit(0); i >= 0; i = projects.nextSetBit(i + 1)) {
+                scores[i] += weight;
+            }
+            matched.or(projects);
+        }
+
+        return matched.stream()
+                .boxed()
+                .sorted((a, b) -> scores[a] != scores[b]
+                        ? Double.compare(scores[b], scores[a])
+                        : Long.compare(projectIds[a], projectIds[b]))
+                .limit(limit)
+                .map(ordinal -> new Match(projectIds[ordinal], scores[ordinal], matchedTags(ordinal, usedTags)))
+                .toList();
+    }
+
+    private List<Long> matchedTags(int ordinal, List<Long> tagIds) {
+        return tagIds.stream().filter(tagId -> postings.get(tagId).get(ordinal)).toList();
+    }
+
+    record Match(long projectId, double score, List<Long> tagIds) {
+    }
+}
@@ -0,0 +1,8 @@
+package com.ehb.connected.domain.impl.projects.recommendations;
+
+import com.ehb.connected.domain.impl.projects.dto.ProjectDetailsDto;
+
+import java.util.List;
+
+public record ProjectRecommendationDto(ProjectDetailsDto project, double score, List<Long> matchedTagIds) {
+}
@@ -0,0 +1,9 @@
+package com.ehb.connected.domain.impl.projects.recommendations;
+
+import org.springframework.security.core.Authentication;
+
+import java.util.List;
+
+public interface ProjectRecommendationService {
+    List<ProjectRecommendationDto> recommendProjects(Authentication authentication, Long assignmentId, int limit);
+}
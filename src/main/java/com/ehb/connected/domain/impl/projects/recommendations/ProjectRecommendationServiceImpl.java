@@ -0,0 +1,56 @@
+package com.ehb.connected.domain.impl.projects.recommendations;
+
+import com.ehb.connected.domain.impl.projects.cache.PublishedProjectCache;
+import com.ehb.connected.domain.impl.projects.dto.ProjectDetailsDto;
+import com.ehb.connected.domain.impl.tags.entities.Tag;
+import com.ehb.connected.domain.impl.users.entities.User;
+import com.ehb.connected.domain.impl.users.services.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class ProjectRecommendationServiceImpl implements ProjectRecommendationService {
+
+    private static final int MAX_RECOMMENDATIONS = 50;
+
+    private final ProjectTagIndex projectTagIndex;
+    private final PublishedProjectCache publishedProjectCache;
+    private final UserService userService;
+
+    @Override
+    public List<ProjectRecommendationDto> recommendProjects(Authentication authentication, Long assignmentId, int limit) {
+        final User user = userService.getUserByAuthentication(authentication);
+        final List<Long> tagIds = user.getTags().stream().map(Tag::getId).toList();
+
+        final List<AssignmentTagIndex.Match> matches = projectTagIndex.forAssignment(assignmentId)
+                .rank(tagIds, Math.clamp(limit, 1, MAX_RECOMMENDATIONS));
+        if (matches.isEmpty()) {
+            return List.of();
+        }
+
+        final Map<Long, ProjectDetailsDto> projects = publishedProjectCache.getPublishedProjects(assignmentId).stream()
+                .collect(Collectors.toMap(ProjectDetailsDto::getId, Function.identity()));
+        // The index and the cache are invalidated by the same event but built at different times, so a project
+        // missing from the cache or already full there is skipped
+        return matches.stream()
+                .map(match -> {
+                    ProjectDetailsDto project = projects.get(match.projectId());
+                    return project == null || isFull(project) ? null : new ProjectRecommendationDto(project, match.score(), match.tagIds());
+                })
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private static boolean isFull(ProjectDetailsDto project) {
+        return project.getMembers() != null && project.getTeamSize() != null
+                && project.getMembers().size() >= project.getTeamSize();
+    }
+}
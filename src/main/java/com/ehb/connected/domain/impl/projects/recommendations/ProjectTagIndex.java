@@ -0,0 +1,65 @@
+package com.ehb.connected.domain.impl.projects.recommendations;
+
+import com.ehb.connected.domain.impl.projects.cache.ProjectCatalogChangedEvent;
+import com.ehb.connected.domain.impl.projects.entities.ProjectStatusEnum;
+import com.ehb.connected.domain.impl.projects.repositories.ProjectRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds one {@link AssignmentTagIndex} per assignment of the projects that still have room. An index is built
+ * on first use and dropped when the published catalog of its assignment changes, so only that assignment is
+ * rebuilt. That event only reaches this instance, so an index also expires {@link #MAX_AGE} after it was built.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectTagIndex {
+
+    // Same as the published projects cache TTL, changes made on another instance show up within this window
+    static final Duration MAX_AGE = Duration.ofMinutes(10);
+    private static final int MAX_ASSIGNMENTS = 500;
+
+    private final ProjectRepository projectRepository;
+    private final Cache<Long, AssignmentTagIndex> indexes = Caffeine.newBuilder()
+            .maximumSize(MAX_ASSIGNMENTS)
+            .expireAfterWrite(MAX_AGE)
+            .build();
+    // Bumped before every eviction, a build that overlapped one may have read the old catalog
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Logger logger = LoggerFactory.getLogger(ProjectTagIndex.class);
+
+    AssignmentTagIndex forAssignment(Long assignmentId) {
+        final AssignmentTagIndex cached = indexes.getIfPresent(assignmentId);
+        if (cached != null) {
+            return cached;
+        }
+        final long startedAt = generation.get();
+        final AssignmentTagIndex built = build(assignmentId);
+        // Runs under the same lock as the eviction, so an index built before a change is never stored after it
+        indexes.asMap().compute(assignmentId, (id, existing) -> generation.get() == startedAt ? built : existing);
+        return built;
+    }
+
+    private AssignmentTagIndex build(Long assignmentId) {
+        AssignmentTagIndex index = AssignmentTagIndex.build(
+                projectRepository.findPublishedProjectTagRows(assignmentId, ProjectStatusEnum.PUBLISHED));
+        logger.debug("[{}] Built tag index for assignment {} with {} projects",
+                ProjectTagIndex.class.getSimpleName(), assignmentId, index.size());
+        return index;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(ProjectCatalogChangedEvent event) {
+        generation.incrementAndGet();
+        indexes.invalidate(event.assignmentId());
+    }
+}
@@ -0,0 +1,5 @@
+package com.ehb.connected.domain.impl.projects.recommendations;
+
+// JPQL constructor projection, see ProjectRepository#findPublishedProjectTagRows
+public record ProjectTagRow(Long projectId, Long tagId) {
+}
@@ -0,0 +1,34 @@
+package com.ehb.connected.domain.impl.projects.repositories;
+
+import com.ehb.connected.domain.impl.projects.entities.AssignmentMembership;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface AssignmentMembershipRepository extends JpaRepository<AssignmentMembership, Long> {
+
+    boolean existsByAssignmentIdAndUserId(Long assignmentId, Long userId);
+
+    @Query("select m.userId from AssignmentMembership m where m.assignmentId = :assignmentId")
+    List<Long> findUserIdsByAssignmentId(@Param("assignmentId") Long assignmentId);
+
+    @Modifying
+    @Query(value = """
+              insert into assignment_membership (assignment_id, user_id, project_id)
+              values (:assignmentId, :userId, :projectId)
+            """, nativeQuery = true)
+    int insert(@Param("assignmentId") Long assignmentId, @Param("userId") Long userId, @Param("projectId") Long projectId);
+
+    @Modifying
+    @Query("delete from AssignmentMembership m where m.projectId = :projectId and m.userId = :userId")
+    int deleteByProjectIdAndUserId(@Param("projectId") Long projectId, @Param("userId") Long userId);
+
+    @Modifying
+    @Query("delete from AssignmentMembership m where m.projectId = :projectId")
+    int deleteAllByProjectId(@Param("projectId") Long projectId);
+}
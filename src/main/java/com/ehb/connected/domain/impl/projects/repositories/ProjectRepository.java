@@ -1,11 +1,20 @@
 package com.ehb.connected.domain.impl.projects.repositories;
 
-import com.ehb.connected.domain.impl.assignments.entities.Assignment;
+import com.ehb.connected.domain.impl.projects.dto.MemberSummaryRow;
+import com.ehb.connected.domain.impl.projects.dto.ProjectSearchRow;
+import com.ehb.connected.domain.impl.projects.dto.ProjectSummaryRow;
 import com.ehb.connected.domain.impl.projects.entities.Project;
 import com.ehb.connected.domain.impl.projects.entities.ProjectStatusEnum;
+import com.ehb.connected.domain.impl.projects.recommendations.ProjectTagRow;
+import com.ehb.connected.domain.impl.teamformation.dto.ProjectCapacityRow;
 import com.ehb.connected.domain.impl.users.entities.Role;
 import com.ehb.connected.domain.impl.users.entities.User;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -17,25 +26,185 @@ import java.util.UUID;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
+    @EntityGraph(Project.DETAILS_GRAPH)
     List<Project> findAllByAssignmentId(Long assignmentId);
 
+    @EntityGraph(Project.DETAILS_GRAPH)
     @Query("SELECT p FROM Project p WHERE p.assignment.id = :assignmentId AND (p.status = :status OR p.productOwner = :user)")
     List<Project> findAllByAssignmentIdAndStatusOrOwnedBy(@Param("assignmentId") Long assignmentId,
                                                           @Param("status") ProjectStatusEnum status,
                                                           @Param("user") User user);
 
+    @EntityGraph(Project.DETAILS_GRAPH)
+    @Query("""
+              select p
+              from Project p
+              where p.assignment.id = :assignmentId
+                and p.status = :status
+                and p.id > :afterId
+                and (:tagId is null or exists (select t.id from p.tags t where t.id = :tagId))
+              order by p.id
+            """)
+    List<Project> findCatalogPageById(@Param("assignmentId") Long assignmentId,
+                                      @Param("status") ProjectStatusEnum status,
+                                      @Param("tagId") Long tagId,
+                                      @Param("afterId") Long afterId,
+                                      Limit limit);
+
+    @EntityGraph(Project.DETAILS_GRAPH)
+    @Query("""
+              select p
+              from Project p
+              where p.assignment.id = :assignmentId
+                and p.status = :status
+                and (:tagId is null or exists (select t.id from p.tags t where t.id = :tagId))
+              order by p.title, p.id
+            """)
+    List<Project> findCatalogFirstPageByTitle(@Param("assignmentId") Long assignmentId,
+                                              @Param("status") ProjectStatusEnum status,
+                                              @Param("tagId") Long tagId,
+                                              Limit limit);
+
+    @EntityGraph(Project.DETAILS_GRAPH)
+    @Query("""
+              select p
+              from Project p
+              where p.assignment.id = :assignmentId
+                and p.status = :status
+                and (p.title > :afterTitle or (p.title = :afterTitle and p.id > :afterId))
+                and (:tagId is null or exists (select t.id from p.tags t where t.id = :tagId))
+              order by p.title, p.id
+            """)
+    List<Project> findCatalogPageByTitle(@Param("assignmentId") Long assignmentId,
+                                         @Param("status") ProjectStatusEnum status,
+                                         @Param("tagId") Long tagId,
+                                         @Param("afterTitle") String afterTitle,
+                                         @Param("afterId") Long afterId,
+                                         Limit limit);
+
+    @Query("""
+              select new com.ehb.connected.domain.impl.projects.dto.ProjectSummaryRow(
+                  p.id, p.gid, p.title, p.shortDescription, p.status, p.teamSize, p.backgroundImage, p.productOwner.id)
+              from Project p
+              where p.assignment.id = :assignmentId
+              order by p.id
+            """)
+    List<ProjectSummaryRow> findSummaryRowsByAssignmentId(@Param("assignmentId") Long assignmentId);
+
+    @Query("""
+              select new com.ehb.connected.domain.impl.projects.dto.ProjectSummaryRow(
+                  p.id, p.gid, p.title, p.shortDescription, p.status, p.teamSize, p.backgroundImage, p.productOwner.id)
+              from Project p
+              where p.assignment.id = :assignmentId
+                and (p.status = :status or p.productOwner.id = :userId)
+              order by p.id
+            """)
+    List<ProjectSummaryRow> findSummaryRowsByAssignmentIdAndStatusOrOwnedBy(@Param("assignmentId") Long assignmentId,
+                                                                           @Param("status") ProjectStatusEnum status,
+                                                                           @Param("userId") Long userId);
+
+    @Query("""
+              select new com.ehb.connected.domain.impl.projects.dto.ProjectSummaryRow(
+                  p.id, p.gid, p.title, p.shortDescription, p.status, p.teamSize, p.backgroundImage, p.productOwner.id)
+              from Project p
+              where p.id in :projectIds
+              order by p.id
+            """)
+    List<ProjectSummaryRow> findSummaryRowsByIds(@Param("projectIds") Collection<Long> projectIds);
+
+    @Query("""
+              select new com.ehb.connected.domain.impl.projects.dto.MemberSummaryRow(
+                  p.id, m.id, m.firstName, m.lastName, m.profileImageUrl)
+              from Project p
+              join p.members m
+              where p.id in :projectIds
+              order by p.id, m.id
+            """)
+    List<MemberSummaryRow> findMemberSummaryRowsByProjectIds(@Param("projectIds") Collection<Long> projectIds);
+
+    // Title matches weigh double; natural language mode so user input is never parsed as boolean operators
+    @Query(value = """
+              select p.id as id,
+                     match(p.title) against (:query) * 2 + match(p.search_text) against (:query) as score
+              from projects p
+              where p.assignment_id = :assignmentId
+                and (:allStatuses = true or p.status = 'PUBLISHED' or p.product_owner_user_id = :userId)
+                and match(p.search_text) against (:query)
+              order by score desc, p.id
+            """,
+            countQuery = """
+              select count(*)
+              from projects p
+              where p.assignment_id = :assignmentId
+                and (:allStatuses = true or p.status = 'PUBLISHED' or p.product_owner_user_id = :userId)
+                and match(p.search_text) against (:query)
+            """,
+            nativeQuery = true)
+    Page<ProjectSearchRow> searchInAssignment(@Param("query") String query,
+                                              @Param("assignmentId") Long assignmentId,
+                                              @Param("allStatuses") boolean allStatuses,
+                                              @Param("userId") Long userId,
+                                              Pageable pageable);
+
+    @Query(value = """
+              select p.id as id,
+                     match(p.title) against (:query) * 2 + match(p.search_text) against (:query) as score
+              from projects p
+              where p.assignment_id is null
+                and p.gid is not null
+                and match(p.search_text) against (:query)
+              order by score desc, p.id
+            """,
+            countQuery = """
+              select count(*)
+              from projects p
+              where p.assignment_id is null
+                and p.gid is not null
+                and match(p.search_text) against (:query)
+            """,
+            nativeQuery = true)
+    Page<ProjectSearchRow> searchGlobal(@Param("query") String query, Pageable pageable);
+
+    @EntityGraph(Project.DETAILS_GRAPH)
+    List<Project> findAllByIdIn(Collection<Long> ids);
+
+    @Query("""
+              select new com.ehb.connected.domain.impl.projects.recommendations.ProjectTagRow(p.id, t.id)
+              from Project p
+              left join p.tags t
+              where p.assignment.id = :assignmentId
+                and p.status = :status
+                and p.memberCount < p.teamSize
+            """)
+    List<ProjectTagRow> findPublishedProjectTagRows(@Param("assignmentId") Long assignmentId,
+                                                    @Param("status") ProjectStatusEnum status);
+
+    @Query("""
+              select new com.ehb.connected.domain.impl.teamformation.dto.ProjectCapacityRow(p.id, p.teamSize, p.memberCount)
+              from Project p
+              where p.assignment.id = :assignmentId
+                and p.status = :status
+                and p.memberCount < p.teamSize
+            """)
+    List<ProjectCapacityRow> findOpenCapacityRows(@Param("assignmentId") Long assignmentId,
+                                                  @Param("status") ProjectStatusEnum status);
+
     Project findByMembersAndAssignmentIdAndStatus(List<User> users, Long assignmentId, ProjectStatusEnum status);
 
+    @EntityGraph(Project.DETAILS_GRAPH)
     List<Project> findAllByAssignmentIdAndStatus(Long assignmentId, ProjectStatusEnum status);
 
-    boolean existsByAssignmentAndMembersContainingAndStatusNotIn(Assignment assignment, User user, List<ProjectStatusEnum> status);
+    @EntityGraph(Project.DETAILS_GRAPH)
+    List<Project> findAllByAssignmentIdAndProductOwnerAndStatusNot(Long assignmentId, User productOwner, ProjectStatusEnum status);
 
     boolean existsByAssignmentIdAndGid(Long assignmentId, UUID gid);
 
+    @EntityGraph(Project.DETAILS_GRAPH)
     List<Project> findAllByCreatedBy(User principal);
 
     List<Project> findAllByAssignmentIdAndCreatedBy(Long assignmentId, User createdBy);
 
+    @EntityGraph(Project.DETAILS_GRAPH)
     List<Project> findAllByCreatedByRoleAndAssignmentIsNull(Role role);
 
     @Query("""
@@ -70,6 +239,48 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
             """)
     List<Project> findTopNeedsRevision(@Param("assignmentId") Long assignmentId);
 
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update versioned Project p set p.status = :to where p.id in :projectIds and p.status = :from")
+    int updateStatusByIds(@Param("projectIds") Collection<Long> projectIds,
+                          @Param("from") ProjectStatusEnum from,
+                          @Param("to") ProjectStatusEnum to);
+
+    // The WHERE clause is the capacity and ownership check, concurrent callers serialize on the project row
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+              update versioned Project p
+              set p.productOwner = :user, p.memberCount = p.memberCount + 1
+              where p.id = :projectId
+                and p.productOwner is null
+                and p.memberCount < p.teamSize
+            """)
+    int claimIfUnowned(@Param("projectId") Long projectId, @Param("user") User user);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+              update versioned Project p
+              set p.memberCount = p.memberCount + 1
+              where p.id = :projectId
+                and p.memberCount < p.teamSize
+            """)
+    int reserveMemberSlot(@Param("projectId") Long projectId);
+
+    // Project details embed these users' profiles, so a profile change has to move the version the ETag is built from
+    @Modifying(flushAutomatically = true)
+    @Query("""
+              update versioned Project p
+              set p.memberCount = p.memberCount
+              where p.createdBy.id = :userId
+                 or p.productOwner.id = :userId
+                 or exists (select 1 from Project q join q.members m where q.id = p.id and m.id = :userId)
+            """)
+    int bumpVersionOfProjectsShowingUser(@Param("userId") Long userId);
+
+    // Only call after a successful claimIfUnowned or reserveMemberSlot, which keep member_count in step
+    @Modifying
+    @Query(value = "insert into project_user (project_id, user_id) values (:projectId, :userId)", nativeQuery = true)
+    int insertMember(@Param("projectId") Long projectId, @Param("userId") Long userId);
+
     int countByAssignmentIdAndStatusIn(Long assignmentId, Collection<ProjectStatusEnum> statuses);
 
     int countByAssignmentIdAndStatus(Long assignmentId, ProjectStatusEnum status);
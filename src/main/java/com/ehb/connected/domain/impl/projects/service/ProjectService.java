@@ -1,8 +1,12 @@
 package com.ehb.connected.domain.impl.projects.service;
 
 import com.ehb.connected.domain.impl.applications.dto.ApplicationDetailsDto;
+import com.ehb.connected.domain.impl.projects.dto.ProjectCatalogPageDto;
+import com.ehb.connected.domain.impl.projects.dto.ProjectCatalogSort;
 import com.ehb.connected.domain.impl.projects.dto.ProjectCreateDto;
 import com.ehb.connected.domain.impl.projects.dto.ProjectDetailsDto;
+import com.ehb.connected.domain.impl.projects.dto.ProjectListItemDto;
+import com.ehb.connected.domain.impl.projects.dto.ProjectSearchPageDto;
 import com.ehb.connected.domain.impl.projects.dto.ProjectUpdateDto;
 import com.ehb.connected.domain.impl.projects.entities.Project;
 import com.ehb.connected.domain.impl.projects.entities.ProjectStatusEnum;
@@ -13,9 +17,15 @@ import java.util.List;
 public interface ProjectService {
     ProjectDetailsDto getProjectById(Authentication authentication, Long id);
     Project getProjectById(Long id);
+    String getProjectETag(Authentication authentication, Long projectId);
     List<ProjectDetailsDto> getAllProjectsByAssignmentId(Long assignmentId);
     ProjectDetailsDto getProjectByUserAndAssignmentId(Authentication authentication, Long assignmentId);
     List<ProjectDetailsDto> getAllPublishedOrOwnedProjectsByAssignmentId(Authentication authentication, Long assignmentId);
+    List<ProjectListItemDto> getProjectSummariesByAssignmentId(Long assignmentId);
+    List<ProjectListItemDto> getPublishedOrOwnedProjectSummariesByAssignmentId(Authentication authentication, Long assignmentId);
+    ProjectCatalogPageDto getProjectCatalogPage(Authentication authentication, Long assignmentId, ProjectStatusEnum status,
+                                                Long tagId, ProjectCatalogSort sort, Long afterId, String afterTitle, int limit);
+    ProjectSearchPageDto searchProjects(Authentication authentication, String query, Long assignmentId, int page, int size);
     List<Project> getAllProjectsByStatus(Long assignmentId, ProjectStatusEnum status);
     ProjectDetailsDto createProject(Authentication authentication, Long assignmentId, ProjectCreateDto project);
     ProjectDetailsDto save(Authentication authentication, Long id, ProjectUpdateDto project);
@@ -3,15 +3,26 @@ package com.ehb.connected.domain.impl.projects.service;
 import com.ehb.connected.domain.impl.applications.dto.ApplicationDetailsDto;
 import com.ehb.connected.domain.impl.applications.entities.ApplicationStatusEnum;
 import com.ehb.connected.domain.impl.applications.mappers.ApplicationMapper;
+import com.ehb.connected.domain.impl.applications.repositories.ApplicationRepository;
 import com.ehb.connected.domain.impl.assignments.entities.Assignment;
 import com.ehb.connected.domain.impl.assignments.repositories.AssignmentRepository;
 import com.ehb.connected.domain.impl.deadlines.entities.Deadline;
 import com.ehb.connected.domain.impl.deadlines.enums.DeadlineRestriction;
 import com.ehb.connected.domain.impl.deadlines.service.DeadlineService;
+import com.ehb.connected.domain.impl.notifications.dto.NotificationRequest;
 import com.ehb.connected.domain.impl.notifications.helpers.UrlHelper;
 import com.ehb.connected.domain.impl.notifications.service.NotificationService;
+import com.ehb.connected.domain.impl.projects.cache.ProjectCatalogChangedEvent;
+import com.ehb.connected.domain.impl.projects.cache.PublishedProjectCache;
+import com.ehb.connected.domain.impl.projects.dto.ProjectCatalogPageDto;
+import com.ehb.connected.domain.impl.projects.dto.ProjectCatalogSort;
 import com.ehb.connected.domain.impl.projects.dto.ProjectCreateDto;
 import com.ehb.connected.domain.impl.projects.dto.ProjectDetailsDto;
+import com.ehb.connected.domain.impl.projects.dto.ProjectListItemDto;
+import com.ehb.connected.domain.impl.projects.dto.ProjectSearchHitDto;
+import com.ehb.connected.domain.impl.projects.dto.ProjectSearchPageDto;
+import com.ehb.connected.domain.impl.projects.dto.ProjectSearchRow;
+import com.ehb.connected.domain.impl.projects.dto.ProjectSummaryRow;
 import com.ehb.connected.domain.impl.projects.dto.ProjectUpdateDto;
 import com.ehb.connected.domain.impl.projects.entities.Project;
 import com.ehb.connected.domain.impl.projects.entities.ProjectStatusEnum;
@@ -27,23 +38,39 @@ import com.ehb.connected.exceptions.DeadlineExpiredException;
 import com.ehb.connected.exceptions.EntityNotFoundException;
 import com.ehb.connected.exceptions.UserNotOwnerOfProjectException;
 import com.ehb.connected.exceptions.UserUnauthorizedException;
+import com.ehb.connected.pagination.KeysetPage;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ProjectServiceImpl implements ProjectService {
 
+    private static final int MAX_CATALOG_PAGE_SIZE = 100;
+    // InnoDB ignores FULLTEXT tokens shorter than innodb_ft_min_token_size (3 by default)
+    private static final int MIN_SEARCH_QUERY_LENGTH = 3;
+
     private final ProjectRepository projectRepository;
+    private final ApplicationRepository applicationRepository;
     private final ProjectUserService projectUserService;
     private final ProjectMapper projectMapper;
 
@@ -53,6 +80,8 @@ public class ProjectServiceImpl implements ProjectService {
     private final UserService userService;
     private final NotificationService notificationService;
     private final ProjectEventService projectEventService;
+    private final PublishedProjectCache publishedProjectCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     private final Logger logger = LoggerFactory.getLogger(ProjectServiceImpl.class);
 
@@ -61,15 +90,20 @@ public class ProjectServiceImpl implements ProjectService {
         User user = userService.getUserByAuthentication(authentication);
         Project project = getProjectById(projectId);
 
+        return isResearcherView(user, project)
+                ? projectMapper.toResearcherDetailsDto(project)
+                : projectMapper.toDetailsDto(project);
+    }
+
+    // Throws when the user may not see the project at all
+    private boolean isResearcherView(User user, Project project) {
         if (user.hasRole(Role.RESEARCHER) && user.isCreator(project)) {
-            return projectMapper.toResearcherDetailsDto(project);
+            return true;
         }
         if (user.canViewProject(project)) {
-            return projectMapper.toDetailsDto(project);
-
-        } else {
-            throw new UserUnauthorizedException(user.getId());
+            return false;
         }
+        throw new UserUnauthorizedException(user.getId());
     }
 
     @Override
@@ -78,6 +112,17 @@ public class ProjectServiceImpl implements ProjectService {
                 .orElseThrow(() -> new EntityNotFoundException(Project.class, projectId));
     }
 
+    // Member changes go through versioned updates or the owned members collection, tag changes through the
+    // owned tags collection, so all of them bump the version. The view is part of the tag because researchers
+    // get a different representation of their own projects.
+    @Override
+    public String getProjectETag(Authentication authentication, Long projectId) {
+        User user = userService.getUserByAuthentication(authentication);
+        Project project = getProjectById(projectId);
+        String view = isResearcherView(user, project) ? "researcher" : "details";
+        return "\"project-" + projectId + "-" + project.getVersion() + "-" + view + "\"";
+    }
+
     @Override
     public List<ProjectDetailsDto> getAllProjectsByAssignmentId(Long assignmentId) {
         return projectMapper.toDetailsDtoList(projectRepository.findAllByAssignmentId(assignmentId));
@@ -96,14 +141,101 @@ public class ProjectServiceImpl implements ProjectService {
 
     @Override
     public List<ProjectDetailsDto> getAllPublishedOrOwnedProjectsByAssignmentId(Authentication authentication, Long assignmentId) {
-        return projectMapper.toDetailsDtoList(
-                projectRepository.findAllByAssignmentIdAndStatusOrOwnedBy(
-                        assignmentId,
-                        ProjectStatusEnum.PUBLISHED,
-                        userService.getUserByAuthentication(authentication)
-                ));
+        final User user = userService.getUserByAuthentication(authentication);
+        final List<ProjectDetailsDto> published = publishedProjectCache.getPublishedProjects(assignmentId);
+        final List<Project> owned = projectRepository.findAllByAssignmentIdAndProductOwnerAndStatusNot(
+                assignmentId, user, ProjectStatusEnum.PUBLISHED);
+        if (owned.isEmpty()) {
+            // The cached list is shared by every caller, hand out a copy it cannot be changed through
+            return List.copyOf(published);
+        }
+
+        final List<ProjectDetailsDto> projects = new ArrayList<>(published);
+        projects.addAll(projectMapper.toDetailsDtoList(owned));
+        projects.sort(Comparator.comparing(ProjectDetailsDto::getId));
+        return projects;
+    }
+
+    @Override
+    public List<ProjectListItemDto> getProjectSummariesByAssignmentId(Long assignmentId) {
+        return toListItems(projectRepository.findSummaryRowsByAssignmentId(assignmentId));
+    }
+
+    @Override
+    public List<ProjectListItemDto> getPublishedOrOwnedProjectSummariesByAssignmentId(Authentication authentication, Long assignmentId) {
+        final User user = userService.getUserByAuthentication(authentication);
+        return toListItems(projectRepository.findSummaryRowsByAssignmentIdAndStatusOrOwnedBy(
+                assignmentId, ProjectStatusEnum.PUBLISHED, user.getId()));
+    }
+
+    private List<ProjectListItemDto> toListItems(List<ProjectSummaryRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        final List<Long> projectIds = rows.stream().map(ProjectSummaryRow::id).toList();
+        return projectMapper.toListItems(rows, projectRepository.findMemberSummaryRowsByProjectIds(projectIds));
+    }
+
+    @Override
+    public ProjectCatalogPageDto getProjectCatalogPage(Authentication authentication, Long assignmentId, ProjectStatusEnum status,
+                                                       Long tagId, ProjectCatalogSort sort, Long afterId, String afterTitle, int limit) {
+        final User user = userService.getUserByAuthentication(authentication);
+        final ProjectStatusEnum effectiveStatus = status != null ? status : ProjectStatusEnum.PUBLISHED;
+        if (effectiveStatus != ProjectStatusEnum.PUBLISHED && !user.hasRole(Role.TEACHER)) {
+            throw new UserUnauthorizedException(user.getId());
+        }
+        final ProjectCatalogSort effectiveSort = sort != null ? sort : ProjectCatalogSort.ID;
+        if (effectiveSort == ProjectCatalogSort.TITLE) {
+            KeysetPage.requireCompleteCursor(afterTitle, afterId, "afterTitle", "afterId");
+        } else if (afterTitle != null) {
+            throw new BaseRuntimeException("afterTitle is only valid when sorting by title", HttpStatus.BAD_REQUEST);
+        }
+
+        final int pageSize = Math.clamp(limit, 1, MAX_CATALOG_PAGE_SIZE);
+        final Limit fetchLimit = KeysetPage.fetchLimit(pageSize);
+        final List<Project> rows = switch (effectiveSort) {
+            case ID -> projectRepository.findCatalogPageById(
+                    assignmentId, effectiveStatus, tagId, afterId != null ? afterId : 0L, fetchLimit);
+            case TITLE -> afterId == null
+                    ? projectRepository.findCatalogFirstPageByTitle(assignmentId, effectiveStatus, tagId, fetchLimit)
+                    : projectRepository.findCatalogPageByTitle(assignmentId, effectiveStatus, tagId, afterTitle, afterId, fetchLimit);
+        };
+
+        final KeysetPage<Project> page = KeysetPage.of(rows, pageSize);
+        final Project next = page.nextCursor();
+        return new ProjectCatalogPageDto(
+                projectMapper.toDetailsDtoList(page.items()),
+                page.hasMore(),
+                next != null ? next.getId() : null,
+                next != null ? next.getTitle() : null
+        );
+    }
+
+    @Override
+    public ProjectSearchPageDto searchProjects(Authentication authentication, String query, Long assignmentId, int page, int size) {
+        final String trimmed = query == null ? "" : query.trim();
+        if (trimmed.length() < MIN_SEARCH_QUERY_LENGTH) {
+            throw new BaseRuntimeException("Search query must be at least " + MIN_SEARCH_QUERY_LENGTH + " characters", HttpStatus.BAD_REQUEST);
+        }
+        final User user = userService.getUserByAuthentication(authentication);
+        final Pageable pageable = PageRequest.of(Math.max(page, 0), Math.clamp(size, 1, MAX_CATALOG_PAGE_SIZE));
+
+        final Page<ProjectSearchRow> rows = assignmentId != null
+                ? projectRepository.searchInAssignment(trimmed, assignmentId, user.hasRole(Role.TEACHER), user.getId(), pageable)
+                : projectRepository.searchGlobal(trimmed, pageable);
+
+        final Map<Long, Project> projects = projectRepository.findAllByIdIn(rows.map(ProjectSearchRow::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(Project::getId, Function.identity()));
+        final List<ProjectSearchHitDto> hits = rows.stream()
+                .filter(row -> projects.containsKey(row.getId()))
+                .map(row -> new ProjectSearchHitDto(projectMapper.toDetailsDto(projects.get(row.getId())), row.getScore()))
+                .toList();
+
+        return new ProjectSearchPageDto(hits, rows.getNumber(), rows.getSize(), rows.getTotalElements(), rows.hasNext());
     }
 
+    @Transactional
     @Override
     public ProjectDetailsDto createProject(Authentication authentication, Long assignmentId, ProjectCreateDto projectDto) {
 
@@ -145,6 +277,9 @@ public class ProjectServiceImpl implements ProjectService {
         newProject.setCreatedBy(user);
         newProject.setAssignment(assignment);
         Project savedProject = projectRepository.save(newProject);
+        if (user.hasRole(Role.STUDENT)) {
+            projectUserService.addMembership(savedProject, user.getId());
+        }
         projectEventService.logEvent(savedProject.getId(), null, ProjectEventType.PROJECT_CREATED, "Project created");
         logger.info("[{}] Project has been created", ProjectService.class.getName());
 
@@ -173,11 +308,14 @@ public class ProjectServiceImpl implements ProjectService {
         Project savedProject;
         try {
             savedProject = projectRepository.save(existingProject);
+        } catch (OptimisticLockingFailureException e) {
+            throw e;
         } catch (Exception e) {
             throw new BaseRuntimeException("Project could not be updated", HttpStatus.INTERNAL_SERVER_ERROR);
         }
 
         logger.info("[{}] Project with id: {} has been updated", ProjectService.class.getSimpleName(), projectId);
+        publishCatalogChanged(savedProject);
 
         return projectMapper.toDetailsDto(savedProject);
     }
@@ -199,6 +337,7 @@ public class ProjectServiceImpl implements ProjectService {
         projectRepository.save(project);
     }
 
+    @Transactional
     @Override
     public ProjectDetailsDto changeProjectStatus(Authentication authentication, Long projectId, ProjectStatusEnum status) {
         final User user = userService.getUserByAuthentication(authentication);
@@ -219,19 +358,29 @@ public class ProjectServiceImpl implements ProjectService {
 
         project.setStatus(status);
         projectRepository.save(project);
+        if (status == ProjectStatusEnum.REJECTED) {
+            projectUserService.removeAllMemberships(project);
+        }
         projectEventService.logEvent(projectId, user.getId(), ProjectEventType.STATUS_CHANGED,
                 "Status changed from " + previousStatus + " to " + status);
         logger.info("[{}] Project ID: {} status changed from {} to {} by User ID: {}",
                 ProjectService.class.getSimpleName(), projectId, previousStatus, status, user.getId());
+        publishCatalogChanged(project);
+
+        notificationService.createNotifications(statusChangeNotifications(project, status));
+        return projectMapper.toDetailsDto(project);
+    }
 
+    private List<NotificationRequest> statusChangeNotifications(Project project, ProjectStatusEnum status) {
+        final List<NotificationRequest> notifications = new ArrayList<>();
         if (project.getCreatedBy().getRole().equals(Role.RESEARCHER)) {
             String destinationUrl = UrlHelper.urlBuilder("/projects", project.getId().toString());
 
-            notificationService.createNotification(
+            notifications.add(new NotificationRequest(
                     project.getCreatedBy(),
-                    "The project in assignment: " + project.getAssignment().getName() + "status has been set to: " + project.getStatus().toString().toLowerCase(),
+                    "The project in assignment: " + project.getAssignment().getName() + "status has been set to: " + status.toString().toLowerCase(),
                     destinationUrl
-            );
+            ));
         }
 
         if (project.getProductOwner() != null) {
@@ -240,21 +389,46 @@ public class ProjectServiceImpl implements ProjectService {
                     UrlHelper.sluggify(project.getAssignment().getName()),
                     "projects/" + project.getId());
 
-            notificationService.createNotification(
+            notifications.add(new NotificationRequest(
                     project.getProductOwner(),
-                    "Your project status has been set to: " + project.getStatus().toString().toLowerCase(),
+                    "Your project status has been set to: " + status.toString().toLowerCase(),
                     destinationUrl
-            );
+            ));
         }
-        return projectMapper.toDetailsDto(project);
+        return notifications;
     }
 
+    @Transactional
     @Override
     public List<ProjectDetailsDto> publishAllProjects(Authentication authentication, Long assignmentId) {
+        final long start = System.nanoTime();
+        final User user = userService.getUserByAuthentication(authentication);
         final List<Project> projects = getAllProjectsByStatus(assignmentId, ProjectStatusEnum.APPROVED);
-        projects.forEach(project -> changeProjectStatus(authentication, project.getId(), ProjectStatusEnum.PUBLISHED));
-        logger.info("All approved projects have been published.");
-        return projectMapper.toDetailsDtoList(projects);
+        if (projects.isEmpty()) {
+            return List.of();
+        }
+
+        // Build the response and notifications first, the bulk update clears the persistence context
+        final List<ProjectDetailsDto> published = projectMapper.toDetailsDtoList(projects);
+        published.forEach(dto -> dto.setStatus(ProjectStatusEnum.PUBLISHED));
+        final List<NotificationRequest> notifications = new ArrayList<>();
+        projects.forEach(project -> notifications.addAll(statusChangeNotifications(project, ProjectStatusEnum.PUBLISHED)));
+
+        final List<Long> projectIds = projects.stream().map(Project::getId).toList();
+        final int updated = projectRepository.updateStatusByIds(projectIds, ProjectStatusEnum.APPROVED, ProjectStatusEnum.PUBLISHED);
+        if (updated != projectIds.size()) {
+            throw new BaseRuntimeException("Projects changed while publishing, please try again", HttpStatus.CONFLICT);
+        }
+
+        projectEventService.logEvents(projectIds, user.getId(), ProjectEventType.STATUS_CHANGED,
+                "Status changed from " + ProjectStatusEnum.APPROVED + " to " + ProjectStatusEnum.PUBLISHED);
+        notificationService.createNotifications(notifications);
+        eventPublisher.publishEvent(new ProjectCatalogChangedEvent(assignmentId));
+
+        logger.info("[{}] Published {} projects in assignment ID: {} by User ID: {} in {} ms",
+                ProjectService.class.getSimpleName(), updated, assignmentId, user.getId(),
+                (System.nanoTime() - start) / 1_000_000);
+        return published;
     }
 
     @Override
@@ -283,11 +457,12 @@ public class ProjectServiceImpl implements ProjectService {
         final User kicked = userService.getUserById(memberId);
 
         // fail fast if the user isn’t a member of this project
-        final boolean removed = project.getMembers().removeIf(m -> m.getId().equals(memberId));
+        final boolean removed = project.removeMember(memberId);
         if (!removed) {
             throw new EntityNotFoundException(User.class, memberId);
         }
 
+        projectUserService.removeMembership(project, memberId);
         projectEventService.logEvent(projectId, actor.getId(), ProjectEventType.MEMBER_REMOVED, "Kicked " + kicked.getFullName());
 
         // If the removed member was the Product Owner, reassign (or clear)
@@ -318,8 +493,10 @@ public class ProjectServiceImpl implements ProjectService {
 
         logger.info("[{}] Member ID: {} removed from project ID: {} by User ID: {}",
                 ProjectService.class.getSimpleName(), memberId, projectId, actor.getId());
+        publishCatalogChanged(project);
     }
 
+    @Transactional
     @Override
     public ProjectDetailsDto claimProject(Authentication authentication, Long projectId) {
         final User user = userService.getUserByAuthentication(authentication);
@@ -334,18 +511,22 @@ public class ProjectServiceImpl implements ProjectService {
         }
 
         // reject all other applications of the user
-        user.getApplications().stream()
-                .filter(application -> application.hasSameAssignment(project))
-                .forEach(application -> application.setStatus(ApplicationStatusEnum.REJECTED));
+        applicationRepository.rejectOpenApplicationsOfApplicantInAssignment(user.getId(), project.getAssignment().getId(), null);
+
+        // Another student may have claimed it since the check above
+        if (projectRepository.claimIfUnowned(projectId, user) == 0) {
+            throw new BaseRuntimeException("Cannot claim a project with a product owner", HttpStatus.CONFLICT);
+        }
+        projectRepository.insertMember(projectId, user.getId());
+        projectUserService.addMembership(project, user.getId());
 
-        project.getMembers().add(user);
-        project.setProductOwner(user);
-        projectRepository.save(project);
         projectEventService.logEvent(projectId, user.getId(), ProjectEventType.PROJECT_CLAIMED, "Claimed the project");
         logger.info("[{}] Project ID: {} has been claimed by User ID: {}", ProjectService.class.getSimpleName(), projectId, user.getId());
-        return projectMapper.toDetailsDto(project);
+        publishCatalogChanged(project);
+        return projectMapper.toDetailsDto(getProjectById(projectId));
     }
 
+    @Transactional
     @Override
     public ProjectDetailsDto importProject(Authentication authentication, Long assignmentId, Long projectId) {
         final User user = userService.getUserByAuthentication(authentication);
@@ -381,6 +562,7 @@ public class ProjectServiceImpl implements ProjectService {
         importedProject.setBackgroundImage(project.getBackgroundImage());
         importedProject.setTags(new ArrayList<>(project.getTags()));
         projectRepository.save(importedProject);
+        projectUserService.addMembership(importedProject, user.getId());
 
         projectEventService.logEvent(importedProject.getId(), user.getId(), ProjectEventType.PROJECT_IMPORTED, "Project imported");
         logger.info("[{}] Project with GID: {} has been imported to assignment ID: {} by {} {}",
@@ -424,15 +606,17 @@ public class ProjectServiceImpl implements ProjectService {
 
     }
 
+    @Transactional
     @Override
     public void leaveProject(Authentication authentication, Long projectId) {
         final User user = userService.getUserByAuthentication(authentication);
         final Project project = getProjectById(projectId);
 
         // must be member
-        if (!project.getMembers().removeIf(m -> m.getId().equals(user.getId()))) {
+        if (!project.removeMember(user.getId())) {
             throw new UserUnauthorizedException(user.getId());
         }
+        projectUserService.removeMembership(project, user.getId());
 
         // if they were product owner -> reassign or clear
         if (user.isProductOwner(project)) {
@@ -449,6 +633,7 @@ public class ProjectServiceImpl implements ProjectService {
         projectRepository.save(project);
         projectEventService.logEvent(projectId, user.getId(), ProjectEventType.USER_LEFT, "Left");
         logger.info("[ProjectService] User ID {} left project ID {}", user.getId(), projectId);
+        publishCatalogChanged(project);
     }
 
     @Override
@@ -456,6 +641,12 @@ public class ProjectServiceImpl implements ProjectService {
         return projectRepository.findAllByAssignmentIdAndStatus(assignmentId, status);
     }
 
+    private void publishCatalogChanged(Project project) {
+        if (project.getAssignment() != null) {
+            eventPublisher.publishEvent(new ProjectCatalogChangedEvent(project.getAssignment().getId()));
+        }
+    }
+
     private void reassignProductOwner(Project project) {
         project.setProductOwner(project.hasNoMembers() ? null : project.getMembers().getFirst());
     }
@@ -1,21 +1,47 @@
 package com.ehb.connected.domain.impl.projects.service;
 
 import com.ehb.connected.domain.impl.assignments.entities.Assignment;
-import com.ehb.connected.domain.impl.projects.entities.ProjectStatusEnum;
-import com.ehb.connected.domain.impl.projects.repositories.ProjectRepository;
+import com.ehb.connected.domain.impl.projects.entities.Project;
+import com.ehb.connected.domain.impl.projects.repositories.AssignmentMembershipRepository;
 import com.ehb.connected.domain.impl.users.entities.User;
+import com.ehb.connected.exceptions.BaseRuntimeException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-
 @Service
 @RequiredArgsConstructor
 public class ProjectUserService {
 
-    private final ProjectRepository projectRepository;
+    private final AssignmentMembershipRepository membershipRepository;
 
     public boolean isUserMemberOfAnyProjectInAssignment(User user, Assignment assignment) {
-        return projectRepository.existsByAssignmentAndMembersContainingAndStatusNotIn(assignment, user, List.of(ProjectStatusEnum.REJECTED));
+        return assignment != null && membershipRepository.existsByAssignmentIdAndUserId(assignment.getId(), user.getId());
+    }
+
+    // Must run in the same transaction as the project_user change it mirrors
+    public void addMembership(Project project, Long userId) {
+        if (project.getAssignment() == null) {
+            return;
+        }
+        addMembership(project.getAssignment().getId(), project.getId(), userId);
+    }
+
+    public void addMembership(Long assignmentId, Long projectId, Long userId) {
+        try {
+            membershipRepository.insert(assignmentId, userId, projectId);
+        } catch (DataIntegrityViolationException e) {
+            throw new BaseRuntimeException("User is already a member of a project in this assignment", HttpStatus.CONFLICT);
+        }
+    }
+
+    public void removeMembership(Project project, Long userId) {
+        membershipRepository.deleteByProjectIdAndUserId(project.getId(), userId);
+    }
+
+    // Members of a rejected project are free to join another project in the assignment
+    public void removeAllMemberships(Project project) {
+        membershipRepository.deleteAllByProjectId(project.getId());
     }
 }
@@ -0,0 +1,7 @@
+package com.ehb.connected.domain.impl.teamformation.dto;
+
+import com.ehb.connected.domain.impl.applications.entities.ApplicationStatusEnum;
+
+// JPQL constructor projection, see ApplicationRepository#findPreferenceRowsByAssignmentId
+public record ApplicationPreferenceRow(Long applicantId, Long projectId, ApplicationStatusEnum status) {
+}
@@ -0,0 +1,5 @@
+package com.ehb.connected.domain.impl.teamformation.dto;
+
+// JPQL constructor projection, see ProjectRepository#findOpenCapacityRows
+public record ProjectCapacityRow(Long id, int teamSize, int memberCount) {
+}
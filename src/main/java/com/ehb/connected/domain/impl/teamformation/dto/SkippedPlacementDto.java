@@ -0,0 +1,4 @@
+package com.ehb.connected.domain.impl.teamformation.dto;
+
+public record SkippedPlacementDto(Long studentId, Long projectId, String reason) {
+}
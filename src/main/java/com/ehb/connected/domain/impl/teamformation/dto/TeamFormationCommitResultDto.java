@@ -0,0 +1,9 @@
+package com.ehb.connected.domain.impl.teamformation.dto;
+
+import java.util.List;
+
+public record TeamFormationCommitResultDto(
+        List<TeamPlacementDto> placed,
+        List<SkippedPlacementDto> skipped
+) {
+}
@@ -0,0 +1,11 @@
+package com.ehb.connected.domain.impl.teamformation.dto;
+
+import java.util.List;
+
+public record TeamFormationPreviewDto(
+        Long assignmentId,
+        List<TeamPlacementDto> placements,
+        List<Long> unplacedStudentIds,
+        long solveMillis
+) {
+}
@@ -0,0 +1,10 @@
+package com.ehb.connected.domain.impl.teamformation.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+public record TeamPlacementDto(
+        @NotNull Long studentId,
+        @NotNull Long projectId,
+        TeamPlacementReason reason
+) {
+}
@@ -0,0 +1,10 @@
+package com.ehb.connected.domain.impl.teamformation.dto;
+
+public enum TeamPlacementReason {
+    // The student applied to the project
+    PREFERENCE,
+    // No application matched, placed on shared tags
+    TAG_MATCH,
+    // Left over after matching, placed where most capacity remained
+    FILL
+}
@@ -0,0 +1,5 @@
+package com.ehb.connected.domain.impl.teamformation.dto;
+
+// JPQL constructor projection, see UserRepository#findTagRowsByUserIds
+public record UserTagRow(Long userId, Long tagId) {
+}
@@ -0,0 +1,14 @@
+package com.ehb.connected.domain.impl.teamformation.service;
+
+import com.ehb.connected.domain.impl.teamformation.dto.TeamFormationCommitResultDto;
+import com.ehb.connected.domain.impl.teamformation.dto.TeamFormationPreviewDto;
+import com.ehb.connected.domain.impl.teamformation.dto.TeamPlacementDto;
+import org.springframework.security.core.Authentication;
+
+import java.util.List;
+
+public interface TeamFormationService {
+    TeamFormationPreviewDto preview(Long assignmentId);
+    List<TeamFormationPreviewDto> previewCourse(Long courseId);
+    TeamFormationCommitResultDto commit(Authentication authentication, Long assignmentId, List<TeamPlacementDto> placements);
+}
@@ -0,0 +1,217 @@
+package com.ehb.connected.domain.impl.teamformation.service;
+
+import com.ehb.connected.domain.impl.applications.entities.ApplicationStatusEnum;
+import com.ehb.connected.domain.impl.applications.repositories.ApplicationRepository;
+import com.ehb.connected.domain.impl.applications.service.ApplicationService;
+import com.ehb.connected.domain.impl.assignments.entities.Assignment;
+import com.ehb.connected.domain.impl.assignments.repositories.AssignmentRepository;
+import com.ehb.connected.domain.impl.enrollments.repositories.EnrollmentRepository;
+import com.ehb.connected.domain.impl.notifications.dto.NotificationRequest;
+import com.ehb.connected.domain.impl.notifications.helpers.UrlHelper;
+import com.ehb.connected.domain.impl.notifications.service.NotificationService;
+import com.ehb.connected.domain.impl.projects.cache.ProjectCatalogChangedEvent;
+import com.ehb.connected.domain.impl.projects.entities.ProjectStatusEnum;
+import com.ehb.connected.domain.impl.projects.events.entities.ProjectEventType;
+import com.ehb.connected.domain.impl.projects.events.service.ProjectEventService;
+import com.ehb.connected.domain.impl.projects.recommendations.ProjectTagRow;
+import com.ehb.connected.domain.impl.projects.repositories.AssignmentMembershipRepository;
+import com.ehb.connected.domain.impl.projects.repositories.ProjectRepository;
+import com.ehb.connected.domain.impl.projects.service.ProjectUserService;
+import com.ehb.connected.domain.impl.teamformation.dto.ApplicationPreferenceRow;
+import com.ehb.connected.domain.impl.teamformation.dto.ProjectCapacityRow;
+import com.ehb.connected.domain.impl.teamformation.dto.SkippedPlacementDto;
+import com.ehb.connected.domain.impl.teamformation.dto.TeamFormationCommitResultDto;
+import com.ehb.connected.domain.impl.teamformation.dto.TeamFormationPreviewDto;
+import com.ehb.connected.domain.impl.teamformation.dto.TeamPlacementDto;
+import com.ehb.connected.domain.impl.teamformation.dto.UserTagRow;
+import com.ehb.connected.domain.impl.users.entities.User;
+import com.ehb.connected.domain.impl.users.repositories.UserRepository;
+import com.ehb.connected.domain.impl.users.services.UserService;
+import com.ehb.connected.exceptions.BaseRuntimeException;
+import com.ehb.connected.exceptions.EntityNotFoundException;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class TeamFormationServiceImpl implements TeamFormationService {
+
+    private static final int MAX_PLACEMENTS = 5_000;
+
+    private final AssignmentRepository assignmentRepository;
+    private final ProjectRepository projectRepository;
+    private final ApplicationRepository applicationRepository;
+    private final ApplicationService applicationService;
+    private final AssignmentMembershipRepository membershipRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final UserRepository userRepository;
+    private final UserService userService;
+    private final ProjectUserService projectUserService;
+    private final ProjectEventService projectEventService;
+    private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final TeamFormationSolver solver = new TeamFormationSolver();
+    private final Logger logger = LoggerFactory.getLogger(TeamFormationServiceImpl.class);
+
+    @Override
+    public TeamFormationPreviewDto preview(Long assignmentId) {
+        final Assignment assignment = assignmentRepository.findById(assignmentId)
+                .orElseThrow(() -> new EntityNotFoundException(Assignment.class, assignmentId));
+        return preview(assignment);
+    }
+
+    // Assignments are independent, each one is loaded and solved on its own virtual thread
+    @Override
+    public List<TeamFormationPreviewDto> previewCourse(Long courseId) {
+        final List<Assignment> assignments = assignmentRepository.findByCourseId(courseId);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final List<CompletableFuture<TeamFormationPreviewDto>> futures = assignments.stream()
+                    .map(assignment -> CompletableFuture.supplyAsync(() -> preview(assignment), executor))
+                    .toList();
+            return futures.stream().map(CompletableFuture::join).toList();
+        }
+    }
+
+    private TeamFormationPreviewDto preview(Assignment assignment) {
+        final long start = System.nanoTime();
+        final Set<Long> unassigned = findUnassignedStudentIds(assignment);
+        final List<ProjectCapacityRow> openProjects = projectRepository.findOpenCapacityRows(assignment.getId(), ProjectStatusEnum.PUBLISHED);
+
+        final Map<Long, Integer> capacities = new HashMap<>();
+        openProjects.forEach(row -> capacities.put(row.id(), row.teamSize() - row.memberCount()));
+
+        final Map<Long, Set<Long>> projectTags = new HashMap<>();
+        for (ProjectTagRow row : projectRepository.findPublishedProjectTagRows(assignment.getId(), ProjectStatusEnum.PUBLISHED)) {
+            if (row.tagId() != null) {
+                projectTags.computeIfAbsent(row.projectId(), id -> new HashSet<>()).add(row.tagId());
+            }
+        }
+
+        final Map<Long, Set<Long>> studentTags = new HashMap<>();
+        if (!unassigned.isEmpty()) {
+            for (UserTagRow row : userRepository.findTagRowsByUserIds(unassigned)) {
+                studentTags.computeIfAbsent(row.userId(), id -> new HashSet<>()).add(row.tagId());
+            }
+        }
+
+        // An approved application is a stronger preference than a pending one
+        final Map<Long, Map<Long, Integer>> preferences = new HashMap<>();
+        for (ApplicationPreferenceRow row : applicationRepository.findPreferenceRowsByAssignmentId(assignment.getId(), ProjectStatusEnum.PUBLISHED)) {
+            if (unassigned.contains(row.applicantId())) {
+                preferences.computeIfAbsent(row.applicantId(), id -> new HashMap<>())
+                        .merge(row.projectId(), row.status() == ApplicationStatusEnum.APPROVED ? 2 : 1, Math::max);
+            }
+        }
+
+        final TeamFormationSolver.Result result = solver.solve(new TeamFormationSolver.Input(
+                List.copyOf(unassigned), capacities, studentTags, projectTags, preferences));
+        final long solveMillis = (System.nanoTime() - start) / 1_000_000;
+
+        logger.info("[{}] Team formation preview for assignment ID: {} placed {} of {} students over {} projects in {} ms",
+                TeamFormationService.class.getSimpleName(), assignment.getId(), result.placements().size(),
+                unassigned.size(), capacities.size(), solveMillis);
+        return new TeamFormationPreviewDto(assignment.getId(), result.placements(), result.unplacedStudentIds(), solveMillis);
+    }
+
+    private Set<Long> findUnassignedStudentIds(Assignment assignment) {
+        if (assignment.getCourse() == null) {
+            return new HashSet<>();
+        }
+        final List<Long> rosterCanvasIds = enrollmentRepository.findCanvasUserIdsByCourse(assignment.getCourse().getId());
+        if (rosterCanvasIds.isEmpty()) {
+            return new HashSet<>();
+        }
+        final Set<Long> unassigned = new HashSet<>(userRepository.findStudentIdsByCanvasUserIds(rosterCanvasIds));
+        membershipRepository.findUserIdsByAssignmentId(assignment.getId()).forEach(unassigned::remove);
+        return unassigned;
+    }
+
+    @Transactional
+    @Override
+    public TeamFormationCommitResultDto commit(Authentication authentication, Long assignmentId, List<TeamPlacementDto> placements) {
+        final User user = userService.getUserByAuthentication(authentication);
+        final Assignment assignment = assignmentRepository.findById(assignmentId)
+                .orElseThrow(() -> new EntityNotFoundException(Assignment.class, assignmentId));
+        if (placements == null || placements.isEmpty()) {
+            return new TeamFormationCommitResultDto(List.of(), List.of());
+        }
+        if (placements.size() > MAX_PLACEMENTS) {
+            throw new BaseRuntimeException("Cannot commit more than " + MAX_PLACEMENTS + " placements at once", HttpStatus.BAD_REQUEST);
+        }
+        final String courseSlug = UrlHelper.sluggify(assignment.getCourse().getName());
+        final String assignmentSlug = UrlHelper.sluggify(assignment.getName());
+
+        // The preview may be stale, every placement is re-validated against the current state
+        final Set<Long> unassigned = findUnassignedStudentIds(assignment);
+        final Set<Long> openProjectIds = projectRepository.findOpenCapacityRows(assignmentId, ProjectStatusEnum.PUBLISHED).stream()
+                .map(ProjectCapacityRow::id)
+                .collect(Collectors.toSet());
+
+        final List<TeamPlacementDto> placed = new ArrayList<>();
+        final List<SkippedPlacementDto> skipped = new ArrayList<>();
+        for (TeamPlacementDto placement : placements) {
+            if (!unassigned.remove(placement.studentId())) {
+                skipped.add(new SkippedPlacementDto(placement.studentId(), placement.projectId(), "Student is not an unassigned student of this assignment"));
+            } else if (!openProjectIds.contains(placement.projectId())) {
+                skipped.add(new SkippedPlacementDto(placement.studentId(), placement.projectId(), "Project is not a published project of this assignment"));
+            } else if (projectRepository.reserveMemberSlot(placement.projectId()) == 0) {
+                skipped.add(new SkippedPlacementDto(placement.studentId(), placement.projectId(), "Project is full"));
+            } else {
+                projectRepository.insertMember(placement.projectId(), placement.studentId());
+                projectUserService.addMembership(assignmentId, placement.projectId(), placement.studentId());
+                placed.add(placement);
+            }
+        }
+        if (placed.isEmpty()) {
+            return new TeamFormationCommitResultDto(placed, skipped);
+        }
+
+        // A placement supersedes every application the student still has open in the assignment
+        applicationRepository.rejectOpenApplicationsOfApplicantsInAssignment(
+                placed.stream().map(TeamPlacementDto::studentId).toList(), assignmentId);
+        // Same as a join: a project the placements filled no longer takes the applications still pending on it
+        placed.stream()
+                .map(TeamPlacementDto::projectId)
+                .distinct()
+                .forEach(applicationService::rejectPendingApplicationsIfFull);
+
+        final Map<Long, User> students = userRepository.findAllById(placed.stream().map(TeamPlacementDto::studentId).toList()).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        final List<NotificationRequest> notifications = new ArrayList<>(placed.size());
+        for (TeamPlacementDto placement : placed) {
+            final User student = students.get(placement.studentId());
+            projectEventService.logEvent(placement.projectId(), user.getId(), ProjectEventType.USER_JOINED,
+                    "Placed " + student.getFirstName() + " " + student.getLastName() + " by team formation");
+            notifications.add(new NotificationRequest(
+                    student,
+                    "You have been placed in a project team for assignment: " + assignment.getName(),
+                    UrlHelper.buildCourseAssignmentUrl(courseSlug, assignmentSlug, "projects", placement.projectId().toString())
+            ));
+        }
+        notificationService.createNotifications(notifications);
+        eventPublisher.publishEvent(new ProjectCatalogChangedEvent(assignmentId));
+
+        logger.info("[{}] Team formation placed {} students in assignment ID: {} by User ID: {}, skipped {}",
+                TeamFormationService.class.getSimpleName(), placed.size(), assignmentId, user.getId(), skipped.size());
+        return new TeamFormationCommitResultDto(placed, skipped);
+    }
+}
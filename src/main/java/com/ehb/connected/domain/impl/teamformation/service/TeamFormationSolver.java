@@ -0,0 +1,200 @@
+package com.ehb.connected.domain.impl.teamformation.service;
+
+import com.ehb.connected.domain.impl.teamformation.dto.TeamPlacementDto;
+import com.ehb.connected.domain.impl.teamformation.dto.TeamPlacementReason;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * Capacitated student-proposing deferred acceptance (stable matching) over projects with free seats.
+ * Students rank projects they applied to first, then projects sharing tags; projects rank students the
+ * same way so a match is stable with respect to both. Students left over are spread over the projects
+ * with the most remaining seats. Pure and stateless, callers may run it concurrently.
+ */
+public class TeamFormationSolver {
+
+    // An application outweighs any realistic amount of tag overlap
+    static final int PREFERENCE_WEIGHT = 1_000;
+    // Bounds the proposals per student; applications always sort first so they are never cut
+    static final int MAX_CANDIDATES = 50;
+
+    /**
+     * @param projectCapacities free seats per project id
+     * @param preferences       student id -> project id -> weight (higher is stronger, e.g. approved over pending)
+     */
+    public record Input(
+            List<Long> studentIds,
+            Map<Long, Integer> projectCapacities,
+            Map<Long, Set<Long>> studentTags,
+            Map<Long, Set<Long>> projectTags,
+            Map<Long, Map<Long, Integer>> preferences
+    ) {}
+
+    public record Result(List<TeamPlacementDto> placements, List<Long> unplacedStudentIds) {}
+
+    public Result solve(Input input) {
+        final long[] studentIds = input.studentIds().stream().mapToLong(Long::longValue).sorted().toArray();
+        final long[] projectIds = input.projectCapacities().keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        final int[] capacity = new int[projectIds.length];
+        final Map<Long, Integer> projectIndex = new HashMap<>();
+        for (int p = 0; p < projectIds.length; p++) {
+            projectIndex.put(projectIds[p], p);
+            capacity[p] = Math.max(0, input.projectCapacities().get(projectIds[p]));
+        }
+        final Map<Long, int[]> postings = invertTags(input.projectTags(), projectIndex);
+
+        // Candidate lists are independent per student
+        final int[][] candidates = new int[studentIds.length][];
+        final int[][] scores = new int[studentIds.length][];
+        IntStream.range(0, studentIds.length).parallel().forEach(s -> {
+            int[][] ranked = rankProjects(studentIds[s], input, projectIds, projectIndex, postings, capacity);
+            candidates[s] = ranked[0];
+            scores[s] = ranked[1];
+        });
+
+        final int[] assigned = new int[studentIds.length];
+        final int[] assignedScore = new int[studentIds.length];
+        Arrays.fill(assigned, -1);
+        final List<PriorityQueue<Long>> held = matchStable(candidates, scores, capacity, assigned, assignedScore);
+
+        final List<TeamPlacementDto> placements = new ArrayList<>();
+        for (int s = 0; s < studentIds.length; s++) {
+            if (assigned[s] >= 0) {
+                placements.add(new TeamPlacementDto(studentIds[s], projectIds[assigned[s]],
+                        assignedScore[s] >= PREFERENCE_WEIGHT ? TeamPlacementReason.PREFERENCE : TeamPlacementReason.TAG_MATCH));
+            }
+        }
+        final List<Long> unplaced = fillRemaining(studentIds, projectIds, capacity, held, assigned, placements);
+
+        placements.sort(Comparator.comparing(TeamPlacementDto::projectId).thenComparing(TeamPlacementDto::studentId));
+        return new Result(placements, unplaced);
+    }
+
+    private static Map<Long, int[]> invertTags(Map<Long, Set<Long>> projectTags, Map<Long, Integer> projectIndex) {
+        Map<Long, List<Integer>> lists = new HashMap<>();
+        projectTags.forEach((projectId, tags) -> {
+            Integer p = projectIndex.get(projectId);
+            if (p != null) {
+                tags.forEach(tag -> lists.computeIfAbsent(tag, t -> new ArrayList<>()).add(p));
+            }
+        });
+        Map<Long, int[]> postings = new HashMap<>(lists.size());
+        lists.forEach((tag, list) -> postings.put(tag, list.stream().mapToInt(Integer::intValue).toArray()));
+        return postings;
+    }
+
+    // Returns {projectIndices, scores}, best first
+    private static int[][] rankProjects(long studentId, Input input, long[] projectIds, Map<Long, Integer> projectIndex,
+                                        Map<Long, int[]> postings, int[] capacity) {
+        final int[] score = new int[projectIds.length];
+        final List<Integer> touched = new ArrayList<>();
+
+        for (Long tag : input.studentTags().getOrDefault(studentId, Set.of())) {
+            for (int p : postings.getOrDefault(tag, new int[0])) {
+                if (score[p]++ == 0) {
+                    touched.add(p);
+                }
+            }
+        }
+        input.preferences().getOrDefault(studentId, Map.of()).forEach((projectId, weight) -> {
+            Integer p = projectIndex.get(projectId);
+            if (p != null && weight > 0) {
+                if (score[p] == 0) {
+                    touched.add(p);
+                }
+                score[p] += weight * PREFERENCE_WEIGHT;
+            }
+        });
+
+        // Packed sort keys: score, then free seats, then lowest project id (indices follow sorted ids)
+        final long[] keys = new long[touched.size()];
+        int count = 0;
+        for (int p : touched) {
+            if (capacity[p] > 0) {
+                keys[count++] = ((long) score[p] << 40) | ((long) Math.min(capacity[p], 0xFFFF) << 24) | (0xFFFFFF - p);
+            }
+        }
+        Arrays.sort(keys, 0, count);
+
+        final int size = Math.min(count, MAX_CANDIDATES);
+        final int[][] ranked = {new int[size], new int[size]};
+        for (int k = 0; k < size; k++) {
+            final int p = 0xFFFFFF - (int) (keys[count - 1 - k] & 0xFFFFFF);
+            ranked[0][k] = p;
+            ranked[1][k] = score[p];
+        }
+        return ranked;
+    }
+
+    private static List<PriorityQueue<Long>> matchStable(int[][] candidates, int[][] scores, int[] capacity,
+                                                         int[] assigned, int[] assignedScore) {
+        final List<PriorityQueue<Long>> held = new ArrayList<>(capacity.length);
+        for (int p = 0; p < capacity.length; p++) {
+            held.add(new PriorityQueue<>());
+        }
+        final int[] next = new int[candidates.length];
+        final ArrayDeque<Integer> free = new ArrayDeque<>();
+        for (int s = 0; s < candidates.length; s++) {
+            free.add(s);
+        }
+
+        while (!free.isEmpty()) {
+            final int s = free.poll();
+            if (next[s] >= candidates[s].length) {
+                continue;
+            }
+            final int k = next[s]++;
+            final int p = candidates[s][k];
+            // Weakest held student first: lowest score, then highest index
+            held.get(p).add(((long) scores[s][k] << 32) | (Integer.MAX_VALUE - s));
+            assigned[s] = p;
+            assignedScore[s] = scores[s][k];
+            if (held.get(p).size() > capacity[p]) {
+                final long weakest = held.get(p).poll();
+                final int rejected = Integer.MAX_VALUE - (int) (weakest & 0xFFFFFFFFL);
+                assigned[rejected] = -1;
+                free.add(rejected);
+            }
+        }
+        return held;
+    }
+
+    private static List<Long> fillRemaining(long[] studentIds, long[] projectIds, int[] capacity, List<PriorityQueue<Long>> held,
+                                            int[] assigned, List<TeamPlacementDto> placements) {
+        final int[] remaining = new int[capacity.length];
+        final PriorityQueue<Integer> open = new PriorityQueue<>(Comparator.<Integer>comparingInt(p -> remaining[p]).reversed()
+                .thenComparingLong(p -> projectIds[p]));
+        for (int p = 0; p < capacity.length; p++) {
+            remaining[p] = capacity[p] - held.get(p).size();
+            if (remaining[p] > 0) {
+                open.add(p);
+            }
+        }
+
+        final List<Long> unplaced = new ArrayList<>();
+        for (int s = 0; s < studentIds.length; s++) {
+            if (assigned[s] >= 0) {
+                continue;
+            }
+            final Integer p = open.poll();
+            if (p == null) {
+                unplaced.add(studentIds[s]);
+                continue;
+            }
+            placements.add(new TeamPlacementDto(studentIds[s], projectIds[p], TeamPlacementReason.FILL));
+            if (--remaining[p] > 0) {
+                open.add(p);
+            }
+        }
+        return unplaced;
+    }
+}
@@ -0,0 +1,8 @@
+package com.ehb.connected.domain.impl.users.events;
+
+/**
+ * Published whenever a change can alter how a user is shown to others
+ * (profile fields, tags, role or verification, deletion).
+ */
+public record UserProfileChangedEvent(Long userId) {
+}
@@ -1,5 +1,6 @@
 package com.ehb.connected.domain.impl.users.repositories;
 
+import com.ehb.connected.domain.impl.teamformation.dto.UserTagRow;
 import com.ehb.connected.domain.impl.users.entities.Role;
 import com.ehb.connected.domain.impl.users.entities.User;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -29,4 +30,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
               where u.role = 'STUDENT' and u.canvasUserId in :canvasIds
             """)
     List<Long> findStudentIdsByCanvasUserIds(@Param("canvasIds") Collection<Long> canvasIds);
+
+    @Query("""
+              select new com.ehb.connected.domain.impl.teamformation.dto.UserTagRow(u.id, t.id)
+              from User u
+              join u.tags t
+              where u.id in :userIds
+            """)
+    List<UserTagRow> findTagRowsByUserIds(@Param("userIds") Collection<Long> userIds);
 }
@@ -3,19 +3,23 @@ package com.ehb.connected.domain.impl.users.services;
 import com.ehb.connected.domain.impl.auth.services.PrincipalResolver;
 import com.ehb.connected.domain.impl.enrollments.entities.Enrollment;
 import com.ehb.connected.domain.impl.enrollments.repositories.EnrollmentRepository;
+import com.ehb.connected.domain.impl.projects.events.repositories.ProjectEventRepository;
 import com.ehb.connected.domain.impl.tags.mappers.TagMapper;
 import com.ehb.connected.domain.impl.users.dto.AuthUserDetailsDto;
 import com.ehb.connected.domain.impl.users.dto.EmailRequestDto;
 import com.ehb.connected.domain.impl.users.dto.UserDetailsDto;
 import com.ehb.connected.domain.impl.users.entities.Role;
 import com.ehb.connected.domain.impl.users.entities.User;
+import com.ehb.connected.domain.impl.users.events.UserProfileChangedEvent;
 import com.ehb.connected.domain.impl.users.mappers.UserDetailsMapper;
 import com.ehb.connected.domain.impl.users.repositories.UserRepository;
 import com.ehb.connected.exceptions.AuthenticationRequiredException;
 import com.ehb.connected.exceptions.BaseRuntimeException;
 import com.ehb.connected.exceptions.EntityNotFoundException;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.oauth2.core.user.OAuth2User;
@@ -37,7 +41,9 @@ public class UserServiceImpl implements UserService {
     private final UserDetailsMapper userDetailsMapper;
     private final TagMapper tagMapper;
     private final EnrollmentRepository enrollmentRepository;
+    private final ProjectEventRepository projectEventRepository;
     private final EmailService emailService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${connected.frontend-uri}")
     private String frontendUri;
@@ -72,7 +78,9 @@ public class UserServiceImpl implements UserService {
         user.setFieldOfStudy(userDto.getFieldOfStudy());
         user.setLinkedinUrl(userDto.getLinkedinUrl());
         user.setTags(new ArrayList<>(tagMapper.toEntityList(userDto.getTags())));
-        return userDetailsMapper.toUserDetailsDto(userRepository.save(user));
+        final User saved = userRepository.save(user);
+        eventPublisher.publishEvent(new UserProfileChangedEvent(saved.getId()));
+        return userDetailsMapper.toUserDetailsDto(saved);
     }
 
     @Override
@@ -84,12 +92,17 @@ public class UserServiceImpl implements UserService {
         user.setFieldOfStudy(userDto.getFieldOfStudy());
         user.setLinkedinUrl(userDto.getLinkedinUrl());
         user.setTags(new ArrayList<>(tagMapper.toEntityList(userDto.getTags())));
-        return userDetailsMapper.toUserDetailsDto(userRepository.save(user));
+        final User saved = userRepository.save(user);
+        eventPublisher.publishEvent(new UserProfileChangedEvent(saved.getId()));
+        return userDetailsMapper.toUserDetailsDto(saved);
     }
 
+    @Transactional
     @Override
     public void deleteUser(Long id) {
+        projectEventRepository.clearActor(id);
         userRepository.deleteById(id);
+        eventPublisher.publishEvent(new UserProfileChangedEvent(id));
     }
 
     @Override
@@ -142,6 +155,7 @@ public class UserServiceImpl implements UserService {
         user.setEmailVerificationTokenExpiry(LocalDateTime.now().plusMinutes(15));
         user.setEmailVerified(false);
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserProfileChangedEvent(user.getId()));
 
         String url = frontendUri + "/verify?token=" + token;
         emailService.sendEmail(
@@ -176,6 +190,7 @@ public class UserServiceImpl implements UserService {
         user.setEmailVerificationToken(null);
         user.setEmailVerificationTokenExpiry(null);
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserProfileChangedEvent(user.getId()));
     }
 
     /**
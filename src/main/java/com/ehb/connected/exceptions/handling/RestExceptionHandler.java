@@ -6,6 +6,7 @@ import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -55,6 +56,18 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
         return ResponseEntity.status(ex.getStatus()).body(pd);
     }
 
+    // --- Concurrency -----------------------------------------------------
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ProblemDetail> handleOptimisticLocking(OptimisticLockingFailureException ex, HttpServletRequest req) {
+        ProblemDetail pd = ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT,
+                "The resource was modified by another request, reload and try again.");
+        pd.setTitle("Conflict");
+        pd.setProperty("path", req.getRequestURI());
+        log.info("[409] {} {} - {}", req.getMethod(), req.getServletPath(), ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(pd);
+    }
+
     // --- Security --------------------------------------------------------
 
     @ExceptionHandler(AuthenticationException.class)
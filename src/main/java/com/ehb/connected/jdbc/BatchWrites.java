@@ -0,0 +1,63 @@
+package com.ehb.connected.jdbc;
+
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Helpers for the background writers that move many rows per statement (project event sink, notification outbox).
+ */
+public final class BatchWrites {
+
+    private BatchWrites() {
+    }
+
+    /**
+     * Inserts all rows with one multi-row INSERT and returns their generated ids in row order.
+     *
+     * @param insertPrefix   the statement up to and including {@code values }
+     * @param rowPlaceholder the placeholder group of one row, e.g. {@code (?, ?, ?)}
+     * @param rowArgs        the arguments of one row, matching the placeholders
+     */
+    public static <T> List<Long> insertReturningIds(JdbcTemplate jdbcTemplate, String insertPrefix, String rowPlaceholder,
+                                                    List<T> rows, Function<T, List<Object>> rowArgs) {
+        final String sql = insertPrefix + String.join(", ", Collections.nCopies(rows.size(), rowPlaceholder));
+        final List<Object> args = new ArrayList<>();
+        rows.forEach(row -> args.addAll(rowArgs.apply(row)));
+
+        final KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            new ArgumentPreparedStatementSetter(args.toArray()).setValues(statement);
+            return statement;
+        }, keyHolder);
+        // Multi-row inserts hand back one generated key per row, in insertion order
+        return keyHolder.getKeyList().stream()
+                .map(key -> ((Number) key.values().iterator().next()).longValue())
+                .toList();
+    }
+
+    /**
+     * Retries a failed batch one row at a time, so one bad row (e.g. a row whose project or recipient was deleted
+     * in the meantime) does not take the rest of the batch with it. The attempt handles its own failure and
+     * returns null for a row it gave up on; the results of the other rows come back in order.
+     */
+    public static <T, R> List<R> retryRowByRow(List<T> rows, Function<T, R> attempt) {
+        final List<R> results = new ArrayList<>(rows.size());
+        for (T row : rows) {
+            final R result = attempt.apply(row);
+            if (result != null) {
+                results.add(result);
+            }
+        }
+        return results;
+    }
+}
@@ -0,0 +1,39 @@
+package com.ehb.connected.pagination;
+
+import com.ehb.connected.exceptions.BaseRuntimeException;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+
+/**
+ * One page of a keyset (seek) paginated list. Pages are fetched with one extra row to know whether another
+ * page exists without a count query; the last item of a page that has more is the cursor of the next one.
+ */
+public record KeysetPage<T>(List<T> items, boolean hasMore) {
+
+    public static int fetchSize(int pageSize) {
+        return pageSize + 1;
+    }
+
+    public static Limit fetchLimit(int pageSize) {
+        return Limit.of(fetchSize(pageSize));
+    }
+
+    public static <T> KeysetPage<T> of(List<T> rows, int pageSize) {
+        final boolean hasMore = rows.size() > pageSize;
+        return new KeysetPage<>(hasMore ? rows.subList(0, pageSize) : rows, hasMore);
+    }
+
+    // A cursor of (sort key, id) only positions a page when both parts are present
+    public static void requireCompleteCursor(Object sortKey, Long id, String sortKeyName, String idName) {
+        if ((sortKey == null) != (id == null)) {
+            throw new BaseRuntimeException(sortKeyName + " and " + idName + " must be passed together", HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    // The item the next page starts after, null on the last page
+    public T nextCursor() {
+        return hasMore ? items.getLast() : null;
+    }
+}
@@ -0,0 +1,45 @@
+package com.ehb.connected.websockets;
+
+import com.ehb.connected.domain.impl.users.entities.Permission;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+import java.util.regex.Pattern;
+
+/**
+ * Rejects SUBSCRIBE frames to project activity topics unless the session holds {@code event:read},
+ * mirroring the authorization of the REST events endpoints.
+ */
+@Component
+public class SubscriptionAuthorizationInterceptor implements ChannelInterceptor {
+
+    private static final Pattern PROJECT_EVENTS_TOPIC = Pattern.compile("^/topic/projects/\\d+/events$");
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() != StompCommand.SUBSCRIBE) {
+            return message;
+        }
+        String destination = accessor.getDestination();
+        if (destination != null && PROJECT_EVENTS_TOPIC.matcher(destination).matches()
+                && !hasAuthority(accessor.getUser(), Permission.EVENT_READ.getPermission())) {
+            throw new AccessDeniedException("Not allowed to subscribe to " + destination);
+        }
+        return message;
+    }
+
+    private boolean hasAuthority(Principal principal, String authority) {
+        return principal instanceof Authentication authentication
+                && authentication.isAuthenticated()
+                && authentication.getAuthorities().stream().anyMatch(granted -> authority.equals(granted.getAuthority()));
+    }
+}
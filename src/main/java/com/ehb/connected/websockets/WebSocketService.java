@@ -1,12 +1,22 @@
 package com.ehb.connected.websockets;
 
 import com.ehb.connected.domain.impl.notifications.dto.NotificationDto;
+import com.ehb.connected.domain.impl.notifications.dto.NotificationUnreadCountDto;
+import com.ehb.connected.domain.impl.projects.events.dto.ProjectEventDetailsDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
 
 @Service
 public class WebSocketService {
+    public static final String PROJECT_EVENTS_DESTINATION = "/topic/projects/%d/events";
+    public static final String USER_NOTIFICATIONS_DESTINATION = "/user/%d/notifications";
+    public static final String USER_UNREAD_COUNT_DESTINATION = "/user/%d/notifications/unread-count";
+
+    private static final Logger logger = LoggerFactory.getLogger(WebSocketService.class);
+
     private final SimpMessagingTemplate simpMessagingTemplate;
 
     public WebSocketService(SimpMessagingTemplate simpMessagingTemplate) {
@@ -25,4 +35,27 @@ public class WebSocketService {
             e.printStackTrace();
         }
     }
+
+    //push a persisted notification to its recipient, failures are left to the caller to retry
+    public void deliverNotification(Long userId, NotificationDto notificationDto) {
+        simpMessagingTemplate.convertAndSend(USER_NOTIFICATIONS_DESTINATION.formatted(userId), notificationDto);
+    }
+
+    //send the recipient's new unread count so every open tab can update its badge
+    public void sendUnreadCount(Long userId, NotificationUnreadCountDto unreadCountDto) {
+        try {
+            simpMessagingTemplate.convertAndSend(USER_UNREAD_COUNT_DESTINATION.formatted(userId), unreadCountDto);
+        } catch (Exception e) {
+            logger.warn("[{}] Error sending unread count to user {}", WebSocketService.class.getSimpleName(), userId, e);
+        }
+    }
+
+    //send a persisted project event to everyone watching that project's activity
+    public void sendProjectEvent(Long projectId, ProjectEventDetailsDto eventDto) {
+        try {
+            simpMessagingTemplate.convertAndSend(PROJECT_EVENTS_DESTINATION.formatted(projectId), eventDto);
+        } catch (Exception e) {
+            logger.warn("[{}] Error sending project event for project {}", WebSocketService.class.getSimpleName(), projectId, e);
+        }
+    }
 }
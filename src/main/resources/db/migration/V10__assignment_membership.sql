@@ -0,0 +1,34 @@
+-- V10: Assignment membership
+-- One row per (assignment, user) for members of non-rejected projects, the unique key enforces one project per assignment
+
+CREATE TABLE assignment_membership
+(
+    id            BIGINT PRIMARY KEY AUTO_INCREMENT,
+    assignment_id BIGINT NOT NULL,
+    user_id       BIGINT NOT NULL,
+    project_id    BIGINT NOT NULL,
+
+    CONSTRAINT uk_assignment_membership_assignment_user
+        UNIQUE (assignment_id, user_id),
+
+    CONSTRAINT fk_assignment_membership_assignment
+        FOREIGN KEY (assignment_id) REFERENCES assignments (id) ON DELETE CASCADE,
+
+    CONSTRAINT fk_assignment_membership_user
+        FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE,
+
+    CONSTRAINT fk_assignment_membership_project
+        FOREIGN KEY (project_id) REFERENCES projects (id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_assignment_membership_project
+    ON assignment_membership (project_id);
+
+-- Backfill; should existing data hold a user in two projects of one assignment, the lowest project id wins
+INSERT INTO assignment_membership (assignment_id, user_id, project_id)
+SELECT p.assignment_id, pu.user_id, MIN(p.id)
+FROM project_user pu
+         JOIN projects p ON p.id = pu.project_id
+WHERE p.assignment_id IS NOT NULL
+  AND p.status <> 'REJECTED'
+GROUP BY p.assignment_id, pu.user_id;
@@ -0,0 +1,8 @@
+-- V11: Keyset pagination for the project event timeline
+-- (project_id, timestamp, id) serves both the seek and the ORDER BY; it also backs the project FK,
+-- so the older (project_id, timestamp) index becomes redundant
+
+CREATE INDEX idx_project_events_project_timestamp_id
+    ON project_events (project_id, timestamp DESC, id DESC);
+
+DROP INDEX idx_project_events_project_timestamp ON project_events;
@@ -0,0 +1,36 @@
+-- V12: Monthly range partitions for project_events plus archive bookkeeping
+-- InnoDB does not allow foreign keys on partitioned tables, and every unique key must contain the
+-- partitioning column. Events of deleted projects/users are no longer cascaded: they are only ever
+-- read by project_id and the actor join already falls back to "System" for missing users.
+-- Everything before the current month lands in p_history; ProjectEventArchiveJob keeps splitting
+-- pmax into upcoming months and exports + drops partitions past the retention window.
+
+ALTER TABLE project_events DROP FOREIGN KEY fk_project_events_project;
+ALTER TABLE project_events DROP FOREIGN KEY fk_project_events_user;
+
+ALTER TABLE project_events
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, timestamp);
+
+ALTER TABLE project_events
+    PARTITION BY RANGE COLUMNS (timestamp) (
+        PARTITION p_history VALUES LESS THAN ('2026-10-01 00:00:00'),
+        PARTITION p202610 VALUES LESS THAN ('2026-11-01 00:00:00'),
+        PARTITION p202611 VALUES LESS THAN ('2026-12-01 00:00:00'),
+        PARTITION p202612 VALUES LESS THAN ('2027-01-01 00:00:00'),
+        PARTITION pmax VALUES LESS THAN (MAXVALUE)
+    );
+
+CREATE TABLE project_event_archives
+(
+    id             BIGINT PRIMARY KEY AUTO_INCREMENT,
+    partition_name VARCHAR(64)  NOT NULL,
+    range_end      DATETIME(6)  NOT NULL,
+    min_timestamp  DATETIME(6)  NOT NULL,
+    max_timestamp  DATETIME(6)  NOT NULL,
+    file_path      VARCHAR(512) NOT NULL,
+    row_count      BIGINT       NOT NULL,
+    archived_at    DATETIME(6)  NOT NULL,
+
+    CONSTRAINT uk_project_event_archives_partition UNIQUE (partition_name)
+);
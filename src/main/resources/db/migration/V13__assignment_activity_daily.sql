@@ -0,0 +1,23 @@
+-- V13: Daily per-assignment activity rollup derived from project_events
+-- Maintained incrementally by AssignmentActivityRollupJob; the watermark row starts at 0 so the first
+-- runs backfill the existing history chunk by chunk
+
+CREATE TABLE assignment_activity_daily
+(
+    assignment_id BIGINT       NOT NULL,
+    activity_date DATE         NOT NULL,
+    type          VARCHAR(100) NOT NULL,
+    event_count   BIGINT       NOT NULL,
+
+    PRIMARY KEY (assignment_id, activity_date, type)
+);
+
+CREATE TABLE activity_rollup_watermark
+(
+    id                   BIGINT PRIMARY KEY,
+    last_event_id        BIGINT NOT NULL,
+    pending_max_event_id BIGINT NOT NULL
+);
+
+INSERT INTO activity_rollup_watermark (id, last_event_id, pending_max_event_id)
+VALUES (1, 0, 0);
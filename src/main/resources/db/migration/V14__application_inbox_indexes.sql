@@ -0,0 +1,9 @@
+-- V14: Indexes for the application inbox UNION
+-- Sent branch: applications by applicant, joined to projects by id
+-- Received branch: projects owned by the user in the assignment, joined to applications by project_id
+
+CREATE INDEX idx_applications_user_project
+    ON applications (user_id, project_id);
+
+CREATE INDEX idx_projects_product_owner_assignment
+    ON projects (product_owner_user_id, assignment_id);
@@ -0,0 +1,16 @@
+-- V15: Transactional outbox for notifications
+-- Rows are written in the business transaction and moved into notifications (then pushed over WebSocket)
+-- by NotificationOutboxDispatcher; failed rows are retried at next_attempt_at
+
+CREATE TABLE notification_outbox
+(
+    id              BIGINT PRIMARY KEY AUTO_INCREMENT,
+    user_id         BIGINT      NOT NULL,
+    message         VARCHAR(512),
+    destination_url VARCHAR(512),
+    created_at      DATETIME(6) NOT NULL,
+    attempts        INT         NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6) NOT NULL
+);
+
+CREATE INDEX idx_notification_outbox_next_attempt ON notification_outbox (next_attempt_at, id);
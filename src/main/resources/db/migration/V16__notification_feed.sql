@@ -0,0 +1,19 @@
+-- V16: Keyset notification feed and a maintained unread counter
+-- The counters are seeded from the current unread rows; from here on the outbox dispatcher increments
+-- them and NotificationService decrements them in the same transaction as the notification change
+
+CREATE INDEX idx_notifications_user_timestamp ON notifications (user_id, timestamp, id);
+CREATE INDEX idx_notifications_user_read_timestamp ON notifications (user_id, is_read, timestamp, id);
+
+CREATE TABLE notification_unread_counters
+(
+    user_id      BIGINT PRIMARY KEY,
+    unread_count BIGINT NOT NULL
+);
+
+INSERT INTO notification_unread_counters (user_id, unread_count)
+SELECT user_id, COUNT(*)
+FROM notifications
+WHERE is_read = FALSE
+  AND user_id IS NOT NULL
+GROUP BY user_id;
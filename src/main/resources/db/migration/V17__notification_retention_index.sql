@@ -0,0 +1,3 @@
+-- V17: Lets NotificationRetentionJob find expired read / unread notifications by age without a table scan
+
+CREATE INDEX idx_notifications_read_timestamp ON notifications (is_read, timestamp, id);
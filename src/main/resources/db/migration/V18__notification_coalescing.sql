@@ -0,0 +1,10 @@
+-- V18: Coalescing of high-volume notifications
+-- A notification with an aggregate_message absorbs later ones to the same recipient and destination
+-- while it is unread, see NotificationOutboxDispatcher
+
+ALTER TABLE notifications
+    ADD COLUMN aggregate_message VARCHAR(512) NULL,
+    ADD COLUMN coalesce_count    INT          NOT NULL DEFAULT 1;
+
+ALTER TABLE notification_outbox
+    ADD COLUMN aggregate_message VARCHAR(512) NULL;
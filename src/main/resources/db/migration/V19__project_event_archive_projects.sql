@@ -0,0 +1,14 @@
+-- V19: Projects held by each project event archive
+-- Written by ProjectEventArchiveJob together with the archive row so reads only open files that contain the project
+
+CREATE TABLE project_event_archive_projects
+(
+    archive_id    BIGINT      NOT NULL,
+    project_id    BIGINT      NOT NULL,
+    min_timestamp DATETIME(6) NOT NULL,
+    max_timestamp DATETIME(6) NOT NULL,
+
+    PRIMARY KEY (archive_id, project_id),
+    INDEX idx_project_event_archive_projects_project (project_id, archive_id),
+    CONSTRAINT fk_project_event_archive_projects_archive FOREIGN KEY (archive_id) REFERENCES project_event_archives (id)
+);
@@ -0,0 +1,4 @@
+-- V20: Per-recipient lookups on the notification outbox
+-- The dispatcher only moves a row once no earlier row of the same recipient is left, see NotificationOutboxDispatcher
+
+CREATE INDEX idx_notification_outbox_user ON notification_outbox (user_id, id);
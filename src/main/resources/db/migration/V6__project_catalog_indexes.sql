@@ -0,0 +1,8 @@
+-- V6: Keyset pagination for the per-assignment project catalog
+-- Both indexes start with (assignment_id, status) so the seek and the ORDER BY are served from the index
+
+CREATE INDEX idx_projects_assignment_status_id
+    ON projects (assignment_id, status, id);
+
+CREATE INDEX idx_projects_assignment_status_title_id
+    ON projects (assignment_id, status, title, id);
@@ -0,0 +1,17 @@
+-- V7: Full-text project search
+-- search_text holds title, short description and the HTML-stripped description, maintained by the application on write
+
+ALTER TABLE projects
+    ADD COLUMN search_text MEDIUMTEXT NULL;
+
+-- Backfill existing rows, the application rewrites the column with entity decoding on the next save
+UPDATE projects
+SET search_text = TRIM(CONCAT_WS(' ',
+                                 title,
+                                 short_description,
+                                 REGEXP_REPLACE(COALESCE(description, ''), '<[^>]*>', ' ')));
+
+CREATE FULLTEXT INDEX ft_projects_search_text ON projects (search_text);
+
+-- Separate index on title so title matches can be ranked higher
+CREATE FULLTEXT INDEX ft_projects_title ON projects (title);
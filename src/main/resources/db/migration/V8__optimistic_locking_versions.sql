@@ -0,0 +1,11 @@
+-- V8: Optimistic locking
+-- Version columns back JPA @Version and the ETags served for projects and course assignments
+
+ALTER TABLE projects
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE assignments
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE courses
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
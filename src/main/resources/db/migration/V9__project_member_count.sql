@@ -0,0 +1,8 @@
+-- V9: Denormalized member count
+-- Claim and join check capacity with a conditional UPDATE on this column instead of loading project_user
+
+ALTER TABLE projects
+    ADD COLUMN member_count INT NOT NULL DEFAULT 0;
+
+UPDATE projects p
+SET p.member_count = (SELECT COUNT(*) FROM project_user pu WHERE pu.project_id = p.id);
@@ -0,0 +1,101 @@
+package com.ehb.connected.domain.impl.dashboard.activity;
+
+import com.ehb.connected.domain.impl.assignments.entities.Assignment;
+import com.ehb.connected.domain.impl.projects.entities.Project;
+import com.ehb.connected.domain.impl.projects.entities.ProjectStatusEnum;
+import com.ehb.connected.domain.impl.projects.events.entities.ProjectEvent;
+import com.ehb.connected.domain.impl.projects.events.entities.ProjectEventType;
+import com.ehb.connected.domain.impl.projects.events.repositories.ProjectEventRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+// accumulate is a MySQL upsert, so it is mocked and only the ranges handed to it are checked
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(AssignmentActivityRollup.class)
+class AssignmentActivityRollupTest {
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private AssignmentActivityRollup rollup;
+
+	@Autowired
+	private ActivityRollupWatermarkRepository watermarkRepository;
+
+	@Autowired
+	private ProjectEventRepository projectEventRepository;
+
+	@MockitoBean
+	private AssignmentActivityDailyRepository dailyRepository;
+
+	@Test
+	void newEventsAreRolledUpOnTheRunAfterTheyAreFirstSeen() {
+		persistEvents(3);
+		long maxId = projectEventRepository.findMaxId();
+
+		assertThat(rollup.rollupNextChunk()).isFalse();
+		verifyNoInteractions(dailyRepository);
+		assertThat(watermark().getPendingMaxEventId()).isEqualTo(maxId);
+
+		assertThat(rollup.rollupNextChunk()).isFalse();
+		verify(dailyRepository).accumulate(0, maxId);
+		assertThat(watermark().getLastEventId()).isEqualTo(maxId);
+	}
+
+	@Test
+	void backlogIsFoldedInBoundedChunks() {
+		watermarkRepository.save(new ActivityRollupWatermark(ActivityRollupWatermark.ID, 0, 25_000));
+
+		assertThat(rollup.rollupNextChunk()).isTrue();
+		assertThat(rollup.rollupNextChunk()).isTrue();
+		assertThat(rollup.rollupNextChunk()).isFalse();
+
+		InOrder inOrder = inOrder(dailyRepository);
+		inOrder.verify(dailyRepository).accumulate(0, 10_000);
+		inOrder.verify(dailyRepository).accumulate(10_000, 20_000);
+		inOrder.verify(dailyRepository).accumulate(20_000, 25_000);
+		assertThat(watermark().getLastEventId()).isEqualTo(25_000);
+	}
+
+	private ActivityRollupWatermark watermark() {
+		return watermarkRepository.findById(ActivityRollupWatermark.ID).orElseThrow();
+	}
+
+	private void persistEvents(int count) {
+		Assignment assignment = new Assignment();
+		assignment.setName("Assignment " + UUID.randomUUID());
+		assignment.setDefaultTeamSize(4);
+		entityManager.persist(assignment);
+
+		Project project = new Project();
+		project.setTitle("Project");
+		project.setStatus(ProjectStatusEnum.PUBLISHED);
+		project.setTeamSize(4);
+		project.setAssignment(assignment);
+		entityManager.persist(project);
+
+		for (int i = 0; i < count; i++) {
+			ProjectEvent event = new ProjectEvent();
+			event.setType(ProjectEventType.PROJECT_UPDATED);
+			event.setMessage("Project updated");
+			event.setProject(project);
+			entityManager.persist(event);
+		}
+		entityManager.flush();
+	}
+}
@@ -0,0 +1,146 @@
+package com.ehb.connected.domain.impl.notifications.outbox;
+
+import com.ehb.connected.config.properties.NotificationOutboxProperties;
+import com.ehb.connected.websockets.WebSocketService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxDispatcherTest {
+
+	private static final String AGGREGATE = "%d new applications";
+	private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 10, 1, 12, 0);
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@Mock
+	private WebSocketService webSocketService;
+
+	@Mock
+	private ResultSet resultSet;
+
+	private NotificationOutboxDispatcher dispatcher;
+
+	@BeforeEach
+	void setUp() {
+		NotificationOutboxProperties properties = new NotificationOutboxProperties(true, 200, Duration.ofSeconds(1),
+				Duration.ofSeconds(5), Duration.ofMinutes(5), 10, 3, Duration.ofHours(1));
+		dispatcher = new NotificationOutboxDispatcher(jdbcTemplate, transactionManager, webSocketService, properties,
+				new SimpleMeterRegistry());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void coalescableRowsOfOneRecipientBecomeOneNewAggregate() {
+		when(jdbcTemplate.query(contains("from notifications"), any(RowMapper.class), any(Object[].class)))
+				.thenReturn(List.of());
+		when(jdbcTemplate.update(any(PreparedStatementCreator.class), any(KeyHolder.class))).thenAnswer(invocation -> {
+			KeyHolder keyHolder = invocation.getArgument(1);
+			keyHolder.getKeyList().add(Map.of("GENERATED_KEY", 100L));
+			keyHolder.getKeyList().add(Map.of("GENERATED_KEY", 101L));
+			return 2;
+		});
+
+		List<OutboxNotification> persisted = dispatcher.persist(List.of(
+				coalescable(1L, 7L, "Alice applied"),
+				coalescable(2L, 7L, "Bob applied"),
+				plain(3L, 8L, "Project approved"),
+				coalescable(4L, 7L, "Carol applied")));
+
+		// Sorted back into outbox order, the aggregate takes the place of its newest row
+		assertThat(persisted).extracting(OutboxNotification::id).containsExactly(3L, 4L);
+		assertThat(persisted.get(0).notificationId()).isEqualTo(101L);
+		assertThat(persisted.get(0).message()).isEqualTo("Project approved");
+		assertThat(persisted.get(1).notificationId()).isEqualTo(100L);
+		assertThat(persisted.get(1).message()).isEqualTo("3 new applications");
+		assertThat(persisted.get(1).coalesceCount()).isEqualTo(3);
+
+		ArgumentCaptor<List<Object[]>> increments = ArgumentCaptor.forClass(List.class);
+		verify(jdbcTemplate).batchUpdate(contains("notification_unread_counters"), increments.capture());
+		assertThat(increments.getValue().stream().collect(Collectors.toMap(row -> row[0], row -> row[1])))
+				.isEqualTo(Map.of(7L, 1L, 8L, 1L));
+		verify(jdbcTemplate).update("delete from notification_outbox where id in (?, ?, ?, ?)", 1L, 2L, 3L, 4L);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void coalescableRowsJoinAnOpenAggregateInPlace() throws Exception {
+		when(resultSet.getLong("id")).thenReturn(50L);
+		when(resultSet.getInt("coalesce_count")).thenReturn(2);
+		when(jdbcTemplate.query(contains("from notifications"), any(RowMapper.class), any(Object[].class)))
+				.thenAnswer(invocation -> List.of(invocation.<RowMapper<?>>getArgument(1).mapRow(resultSet, 0)));
+
+		List<OutboxNotification> persisted = dispatcher.persist(List.of(
+				coalescable(1L, 7L, "Alice applied"),
+				coalescable(2L, 7L, "Bob applied")));
+
+		assertThat(persisted).hasSize(1);
+		assertThat(persisted.getFirst().notificationId()).isEqualTo(50L);
+		assertThat(persisted.getFirst().coalesceCount()).isEqualTo(4);
+		verify(jdbcTemplate).update(startsWith("update notifications"), eq("4 new applications"), eq(4), any(Timestamp.class), eq(50L));
+		// Still one unread notification, so nothing is inserted and the counter is left alone
+		verify(jdbcTemplate, never()).update(any(PreparedStatementCreator.class), any(KeyHolder.class));
+		verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+		verify(jdbcTemplate).update("delete from notification_outbox where id in (?, ?)", 1L, 2L);
+	}
+
+	@Test
+	void claimedRowsBehindAnUnclaimedRowOfTheSameRecipientAreLeftAlone() throws Exception {
+		when(resultSet.getLong("user_id")).thenReturn(7L);
+		when(resultSet.getLong("first_id")).thenReturn(13L);
+		doAnswer(invocation -> {
+			invocation.<RowCallbackHandler>getArgument(1).processRow(resultSet);
+			return null;
+		}).when(jdbcTemplate).query(contains("min(id)"), any(RowCallbackHandler.class), any(Object[].class));
+
+		List<OutboxNotification> kept = dispatcher.withoutOvertakingRows(List.of(
+				plain(10L, 7L, "First"),
+				plain(12L, 8L, "Other recipient"),
+				plain(14L, 7L, "Behind row 13")));
+
+		assertThat(kept).extracting(OutboxNotification::id).containsExactly(10L, 12L);
+	}
+
+	private static OutboxNotification coalescable(Long id, Long userId, String message) {
+		return new OutboxNotification(id, userId, message, "/applications", AGGREGATE, CREATED_AT.plusSeconds(id), 0, null, 1);
+	}
+
+	private static OutboxNotification plain(Long id, Long userId, String message) {
+		return new OutboxNotification(id, userId, message, "/projects/1", null, CREATED_AT.plusSeconds(id), 0, null, 1);
+	}
+}
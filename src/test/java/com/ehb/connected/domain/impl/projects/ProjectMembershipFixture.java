@@ -0,0 +1,159 @@
+package com.ehb.connected.domain.impl.projects;
+
+import com.ehb.connected.domain.impl.applications.entities.Application;
+import com.ehb.connected.domain.impl.applications.entities.ApplicationStatusEnum;
+import com.ehb.connected.domain.impl.applications.repositories.ApplicationRepository;
+import com.ehb.connected.domain.impl.assignments.entities.Assignment;
+import com.ehb.connected.domain.impl.assignments.repositories.AssignmentRepository;
+import com.ehb.connected.domain.impl.courses.entities.Course;
+import com.ehb.connected.domain.impl.courses.repositories.CourseRepository;
+import com.ehb.connected.domain.impl.projects.entities.Project;
+import com.ehb.connected.domain.impl.projects.entities.ProjectStatusEnum;
+import com.ehb.connected.domain.impl.projects.repositories.ProjectRepository;
+import com.ehb.connected.domain.impl.users.entities.Role;
+import com.ehb.connected.domain.impl.users.entities.User;
+import com.ehb.connected.domain.impl.users.repositories.UserRepository;
+import com.ehb.connected.exceptions.BaseRuntimeException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestComponent;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Test data and a start-line runner for the project membership tests, import it with {@code @Import}.
+ */
+@TestComponent
+public class ProjectMembershipFixture {
+
+	@Autowired
+	private ProjectRepository projectRepository;
+
+	@Autowired
+	private ApplicationRepository applicationRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private AssignmentRepository assignmentRepository;
+
+	@Autowired
+	private CourseRepository courseRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	public Project persistProject(int teamSize) {
+		Course course = new Course();
+		course.setName("Course " + UUID.randomUUID());
+		courseRepository.save(course);
+
+		Assignment assignment = new Assignment();
+		assignment.setName("Assignment " + UUID.randomUUID());
+		assignment.setDefaultTeamSize(teamSize);
+		assignment.setCourse(course);
+		assignmentRepository.save(assignment);
+
+		Project project = new Project();
+		project.setTitle("Popular project");
+		project.setStatus(ProjectStatusEnum.PUBLISHED);
+		project.setTeamSize(teamSize);
+		project.setAssignment(assignment);
+		return projectRepository.save(project);
+	}
+
+	public List<User> persistStudents(int count) {
+		List<User> students = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			User student = new User();
+			student.setFirstName("Student");
+			student.setLastName(String.valueOf(i));
+			student.setEmail(UUID.randomUUID() + "@student.ehb.be");
+			student.setRole(Role.STUDENT);
+			students.add(student);
+		}
+		return userRepository.saveAll(students);
+	}
+
+	public User persistUser(Role role) {
+		User user = new User();
+		user.setFirstName("Test");
+		user.setLastName(role.name());
+		user.setEmail(UUID.randomUUID() + "@ehb.be");
+		user.setRole(role);
+		return userRepository.save(user);
+	}
+
+	public List<Application> persistApplications(Project project, List<User> applicants, ApplicationStatusEnum status) {
+		List<Application> applications = new ArrayList<>();
+		for (User applicant : applicants) {
+			Application application = new Application();
+			application.setProject(project);
+			application.setApplicant(applicant);
+			application.setStatus(status);
+			applications.add(application);
+		}
+		return applicationRepository.saveAll(applications);
+	}
+
+	public int memberCount(Project project) {
+		return jdbcTemplate.queryForObject("select member_count from projects where id = ?", Integer.class, project.getId());
+	}
+
+	public int membershipRows(Project project) {
+		return jdbcTemplate.queryForObject("select count(*) from project_user where project_id = ?", Integer.class, project.getId());
+	}
+
+	public int assignmentMembershipRows(Project project) {
+		return jdbcTemplate.queryForObject("select count(*) from assignment_membership where project_id = ?", Integer.class, project.getId());
+	}
+
+	public static Authentication authenticationOf(User user) {
+		return new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+	}
+
+	/**
+	 * Releases all attempts at once and counts the ones that succeeded. Losing the race must surface as
+	 * {@code false} or a conflict, anything else fails the test.
+	 */
+	public static int runConcurrently(List<Callable<Boolean>> attempts) throws Exception {
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Boolean>> results = new ArrayList<>();
+
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (Callable<Boolean> attempt : attempts) {
+				results.add(executor.submit(() -> {
+					start.await();
+					try {
+						return attempt.call();
+					} catch (BaseRuntimeException e) {
+						if (e.getStatus() != HttpStatus.CONFLICT) {
+							throw e;
+						}
+						return false;
+					}
+				}));
+			}
+			start.countDown();
+
+			int succeeded = 0;
+			for (Future<Boolean> result : results) {
+				if (Boolean.TRUE.equals(result.get())) {
+					succeeded++;
+				}
+			}
+			return succeeded;
+		}
+	}
+}
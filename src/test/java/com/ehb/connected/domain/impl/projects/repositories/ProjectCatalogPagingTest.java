@@ -0,0 +1,107 @@
+package com.ehb.connected.domain.impl.projects.repositories;
+
+import com.ehb.connected.domain.impl.assignments.entities.Assignment;
+import com.ehb.connected.domain.impl.projects.entities.Project;
+import com.ehb.connected.domain.impl.projects.entities.ProjectStatusEnum;
+import com.ehb.connected.domain.impl.tags.entities.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class ProjectCatalogPagingTest {
+
+	// Small enough that runs of equal titles cross page boundaries
+	private static final Limit PAGE = Limit.of(2);
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private ProjectRepository projectRepository;
+
+	@Test
+	void titleKeysetVisitsEveryPublishedProjectOnceInOrder() {
+		Assignment assignment = persistAssignment();
+		List<Project> published = new ArrayList<>();
+		for (String title : List.of("Beta", "Alpha", "Beta", "Gamma", "Alpha", "Beta", "Delta")) {
+			published.add(persistProject(assignment, title, ProjectStatusEnum.PUBLISHED, null));
+		}
+		persistProject(assignment, "Alpha", ProjectStatusEnum.PENDING, null);
+		entityManager.flush();
+		entityManager.clear();
+
+		List<Long> visited = new ArrayList<>();
+		List<Project> page = projectRepository.findCatalogFirstPageByTitle(assignment.getId(), ProjectStatusEnum.PUBLISHED, null, PAGE);
+		while (!page.isEmpty()) {
+			page.forEach(project -> visited.add(project.getId()));
+			Project last = page.getLast();
+			page = projectRepository.findCatalogPageByTitle(assignment.getId(), ProjectStatusEnum.PUBLISHED, null,
+					last.getTitle(), last.getId(), PAGE);
+		}
+
+		assertThat(visited).containsExactlyElementsOf(published.stream()
+				.sorted(Comparator.comparing(Project::getTitle).thenComparing(Project::getId))
+				.map(Project::getId)
+				.toList());
+	}
+
+	@Test
+	void idKeysetOnlyVisitsProjectsWithTheTag() {
+		Assignment assignment = persistAssignment();
+		Tag tag = persistTag();
+		List<Long> tagged = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			tagged.add(persistProject(assignment, "Tagged " + i, ProjectStatusEnum.PUBLISHED, tag).getId());
+			persistProject(assignment, "Untagged " + i, ProjectStatusEnum.PUBLISHED, null);
+		}
+		entityManager.flush();
+		entityManager.clear();
+
+		List<Long> visited = new ArrayList<>();
+		long afterId = 0L;
+		List<Project> page;
+		while (!(page = projectRepository.findCatalogPageById(assignment.getId(), ProjectStatusEnum.PUBLISHED, tag.getId(), afterId, PAGE)).isEmpty()) {
+			page.forEach(project -> visited.add(project.getId()));
+			afterId = page.getLast().getId();
+		}
+
+		assertThat(visited).containsExactlyElementsOf(tagged);
+	}
+
+	private Assignment persistAssignment() {
+		Assignment assignment = new Assignment();
+		assignment.setName("Assignment " + UUID.randomUUID());
+		assignment.setDefaultTeamSize(4);
+		return entityManager.persist(assignment);
+	}
+
+	private Project persistProject(Assignment assignment, String title, ProjectStatusEnum status, Tag tag) {
+		Project project = new Project();
+		project.setTitle(title);
+		project.setStatus(status);
+		project.setTeamSize(4);
+		project.setAssignment(assignment);
+		if (tag != null) {
+			project.getTags().add(tag);
+		}
+		return entityManager.persist(project);
+	}
+
+	private Tag persistTag() {
+		Tag tag = new Tag();
+		tag.setName("tag-" + UUID.randomUUID());
+		return entityManager.persist(tag);
+	}
+}
@@ -0,0 +1,86 @@
+package com.ehb.connected.domain.impl.projects.repositories;
+
+import com.ehb.connected.domain.impl.projects.ProjectMembershipFixture;
+import com.ehb.connected.domain.impl.projects.entities.Project;
+import com.ehb.connected.domain.impl.users.entities.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.Predicate;
+
+import static com.ehb.connected.domain.impl.projects.ProjectMembershipFixture.runConcurrently;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:membership;MODE=MySQL;LOCK_TIMEOUT=30000;DB_CLOSE_DELAY=-1")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(ProjectMembershipFixture.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProjectMembershipConcurrencyTest {
+
+	private static final int STUDENTS = 300;
+	private static final int TEAM_SIZE = 5;
+
+	@Autowired
+	private ProjectRepository projectRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private ProjectMembershipFixture fixture;
+
+	@Test
+	void concurrentJoinsNeverExceedTeamSize() throws Exception {
+		Project project = fixture.persistProject(TEAM_SIZE);
+
+		int joined = runConcurrently(attemptsInTransaction(fixture.persistStudents(STUDENTS), student -> {
+			if (projectRepository.reserveMemberSlot(project.getId()) == 0) {
+				return false;
+			}
+			projectRepository.insertMember(project.getId(), student.getId());
+			return true;
+		}));
+
+		assertThat(joined).isEqualTo(TEAM_SIZE);
+		assertThat(fixture.memberCount(project)).isEqualTo(TEAM_SIZE);
+		assertThat(fixture.membershipRows(project)).isEqualTo(TEAM_SIZE);
+	}
+
+	@Test
+	void concurrentClaimsHaveExactlyOneWinner() throws Exception {
+		Project project = fixture.persistProject(TEAM_SIZE);
+
+		int claimed = runConcurrently(attemptsInTransaction(fixture.persistStudents(STUDENTS), student -> {
+			if (projectRepository.claimIfUnowned(project.getId(), student) == 0) {
+				return false;
+			}
+			projectRepository.insertMember(project.getId(), student.getId());
+			return true;
+		}));
+
+		assertThat(claimed).isEqualTo(1);
+		assertThat(fixture.memberCount(project)).isEqualTo(1);
+		assertThat(fixture.membershipRows(project)).isEqualTo(1);
+	}
+
+	private List<Callable<Boolean>> attemptsInTransaction(List<User> students, Predicate<User> attempt) {
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		List<Callable<Boolean>> attempts = new ArrayList<>();
+		for (User student : students) {
+			attempts.add(() -> transaction.execute(status -> attempt.test(student)));
+		}
+		return attempts;
+	}
+}
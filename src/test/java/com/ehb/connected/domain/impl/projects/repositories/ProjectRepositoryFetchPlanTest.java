@@ -0,0 +1,137 @@
+package com.ehb.connected.domain.impl.projects.repositories;
+
+import com.ehb.connected.domain.impl.assignments.entities.Assignment;
+import com.ehb.connected.domain.impl.projects.dto.MemberSummaryRow;
+import com.ehb.connected.domain.impl.projects.dto.ProjectDetailsDto;
+import com.ehb.connected.domain.impl.projects.dto.ProjectSummaryRow;
+import com.ehb.connected.domain.impl.projects.entities.Project;
+import com.ehb.connected.domain.impl.projects.entities.ProjectStatusEnum;
+import com.ehb.connected.domain.impl.projects.mappers.ProjectMapper;
+import com.ehb.connected.domain.impl.projects.service.ProjectUserService;
+import com.ehb.connected.domain.impl.tags.entities.Tag;
+import com.ehb.connected.domain.impl.tags.mappers.TagMapper;
+import com.ehb.connected.domain.impl.users.entities.Role;
+import com.ehb.connected.domain.impl.users.entities.User;
+import com.ehb.connected.domain.impl.users.mappers.UserDetailsMapper;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({ProjectMapper.class, TagMapper.class, UserDetailsMapper.class, ProjectUserService.class})
+class ProjectRepositoryFetchPlanTest {
+
+	private static final int MEMBERS_PER_PROJECT = 3;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private ProjectRepository projectRepository;
+
+	@Autowired
+	private ProjectMapper projectMapper;
+
+	@Test
+	void projectListMappingIssuesConstantNumberOfStatements() {
+		long fewProjects = countStatementsForAssignmentWith(3);
+		long manyProjects = countStatementsForAssignmentWith(30);
+
+		assertThat(manyProjects).isEqualTo(fewProjects);
+	}
+
+	@Test
+	void summaryProjectionsDoNotLoadEntities() {
+		Assignment assignment = persistAssignmentWithProjects(5);
+		entityManager.flush();
+		entityManager.clear();
+		Statistics statistics = statistics();
+		statistics.clear();
+
+		List<ProjectSummaryRow> rows = projectRepository.findSummaryRowsByAssignmentId(assignment.getId());
+		List<MemberSummaryRow> members = projectRepository.findMemberSummaryRowsByProjectIds(
+				rows.stream().map(ProjectSummaryRow::id).toList());
+
+		assertThat(rows).hasSize(5);
+		assertThat(members).hasSize(5 * MEMBERS_PER_PROJECT);
+		assertThat(statistics.getEntityLoadCount()).isZero();
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+	}
+
+	private long countStatementsForAssignmentWith(int projectCount) {
+		Assignment assignment = persistAssignmentWithProjects(projectCount);
+		entityManager.flush();
+		entityManager.clear();
+
+		Statistics statistics = statistics();
+		statistics.clear();
+
+		List<ProjectDetailsDto> projects = projectMapper.toDetailsDtoList(projectRepository.findAllByAssignmentId(assignment.getId()));
+
+		assertThat(projects).hasSize(projectCount);
+		assertThat(projects).allSatisfy(project -> {
+			assertThat(project.getMembers()).hasSize(MEMBERS_PER_PROJECT);
+			assertThat(project.getTags()).hasSize(2);
+			assertThat(project.getMembers()).allSatisfy(member -> assertThat(member.getTags()).hasSize(2));
+		});
+		return statistics.getPrepareStatementCount();
+	}
+
+	private Statistics statistics() {
+		return entityManager.getEntityManager()
+				.getEntityManagerFactory()
+				.unwrap(SessionFactory.class)
+				.getStatistics();
+	}
+
+	private Assignment persistAssignmentWithProjects(int projectCount) {
+		Assignment assignment = new Assignment();
+		assignment.setName("Assignment " + UUID.randomUUID());
+		assignment.setDefaultTeamSize(MEMBERS_PER_PROJECT);
+		entityManager.persist(assignment);
+
+		Tag frontend = persistTag("frontend");
+		Tag backend = persistTag("backend");
+
+		for (int i = 0; i < projectCount; i++) {
+			Project project = new Project();
+			project.setTitle("Project " + i);
+			project.setStatus(ProjectStatusEnum.PUBLISHED);
+			project.setTeamSize(MEMBERS_PER_PROJECT);
+			project.setAssignment(assignment);
+			project.getTags().addAll(List.of(frontend, backend));
+
+			for (int j = 0; j < MEMBERS_PER_PROJECT; j++) {
+				User member = new User();
+				member.setFirstName("Student");
+				member.setLastName(i + "-" + j);
+				member.setEmail(UUID.randomUUID() + "@student.ehb.be");
+				member.setRole(Role.STUDENT);
+				member.getTags().addAll(List.of(frontend, backend));
+				entityManager.persist(member);
+				project.getMembers().add(member);
+			}
+			project.setCreatedBy(project.getMembers().getFirst());
+			project.setProductOwner(project.getMembers().getFirst());
+			entityManager.persist(project);
+		}
+		return assignment;
+	}
+
+	private Tag persistTag(String name) {
+		Tag tag = new Tag();
+		tag.setName(name);
+		return entityManager.persist(tag);
+	}
+}
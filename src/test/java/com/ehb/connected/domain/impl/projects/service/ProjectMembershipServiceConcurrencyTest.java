@@ -0,0 +1,85 @@
+package com.ehb.connected.domain.impl.projects.service;
+
+import com.ehb.connected.domain.impl.applications.entities.Application;
+import com.ehb.connected.domain.impl.applications.entities.ApplicationStatusEnum;
+import com.ehb.connected.domain.impl.applications.service.ApplicationService;
+import com.ehb.connected.domain.impl.projects.ProjectMembershipFixture;
+import com.ehb.connected.domain.impl.projects.entities.Project;
+import com.ehb.connected.domain.impl.users.entities.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import static com.ehb.connected.domain.impl.projects.ProjectMembershipFixture.authenticationOf;
+import static com.ehb.connected.domain.impl.projects.ProjectMembershipFixture.runConcurrently;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:membership-service;MODE=MySQL;LOCK_TIMEOUT=30000;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+@EnableAutoConfiguration(exclude = FlywayAutoConfiguration.class)
+@Import(ProjectMembershipFixture.class)
+class ProjectMembershipServiceConcurrencyTest {
+
+	private static final int STUDENTS = 50;
+	private static final int PENDING_APPLICANTS = 10;
+	private static final int TEAM_SIZE = 5;
+
+	@Autowired
+	private ProjectService projectService;
+
+	@Autowired
+	private ApplicationService applicationService;
+
+	@Autowired
+	private ProjectMembershipFixture fixture;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void concurrentClaimsHaveExactlyOneWinner() throws Exception {
+		Project project = fixture.persistProject(TEAM_SIZE);
+
+		List<Callable<Boolean>> attempts = new ArrayList<>();
+		for (User student : fixture.persistStudents(STUDENTS)) {
+			attempts.add(() -> projectService.claimProject(authenticationOf(student), project.getId()) != null);
+		}
+		int claimed = runConcurrently(attempts);
+
+		assertThat(claimed).isEqualTo(1);
+		assertThat(fixture.memberCount(project)).isEqualTo(1);
+		assertThat(fixture.membershipRows(project)).isEqualTo(1);
+		assertThat(jdbcTemplate.queryForObject(
+				"select count(*) from project_user pu join projects p on p.id = pu.project_id where p.id = ? and pu.user_id = p.product_owner_user_id",
+				Integer.class, project.getId())).isEqualTo(1);
+	}
+
+	@Test
+	void concurrentJoinsNeverExceedTeamSize() throws Exception {
+		Project project = fixture.persistProject(TEAM_SIZE);
+		List<Application> approved = fixture.persistApplications(project, fixture.persistStudents(STUDENTS), ApplicationStatusEnum.APPROVED);
+		fixture.persistApplications(project, fixture.persistStudents(PENDING_APPLICANTS), ApplicationStatusEnum.PENDING);
+
+		List<Callable<Boolean>> attempts = new ArrayList<>();
+		for (Application application : approved) {
+			attempts.add(() -> applicationService.joinProject(authenticationOf(application.getApplicant()), application.getId()) != null);
+		}
+		int joined = runConcurrently(attempts);
+
+		assertThat(joined).isEqualTo(TEAM_SIZE);
+		assertThat(fixture.memberCount(project)).isEqualTo(TEAM_SIZE);
+		assertThat(fixture.membershipRows(project)).isEqualTo(TEAM_SIZE);
+		assertThat(jdbcTemplate.queryForObject(
+				"select count(*) from applications where project_id = ? and status = 'PENDING'",
+				Integer.class, project.getId())).isZero();
+	}
+}
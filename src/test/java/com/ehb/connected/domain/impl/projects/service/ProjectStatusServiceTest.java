@@ -0,0 +1,65 @@
+package com.ehb.connected.domain.impl.projects.service;
+
+import com.ehb.connected.domain.impl.applications.entities.Application;
+import com.ehb.connected.domain.impl.applications.entities.ApplicationStatusEnum;
+import com.ehb.connected.domain.impl.applications.service.ApplicationService;
+import com.ehb.connected.domain.impl.projects.ProjectMembershipFixture;
+import com.ehb.connected.domain.impl.projects.entities.Project;
+import com.ehb.connected.domain.impl.projects.entities.ProjectStatusEnum;
+import com.ehb.connected.domain.impl.projects.repositories.ProjectRepository;
+import com.ehb.connected.domain.impl.users.entities.Role;
+import com.ehb.connected.domain.impl.users.entities.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static com.ehb.connected.domain.impl.projects.ProjectMembershipFixture.authenticationOf;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@EnableAutoConfiguration(exclude = FlywayAutoConfiguration.class)
+@Import(ProjectMembershipFixture.class)
+class ProjectStatusServiceTest {
+
+	private static final int TEAM_SIZE = 5;
+
+	@Autowired
+	private ProjectService projectService;
+
+	@Autowired
+	private ApplicationService applicationService;
+
+	@Autowired
+	private ProjectRepository projectRepository;
+
+	@Autowired
+	private ProjectMembershipFixture fixture;
+
+	@Test
+	void rejectingAProjectReleasesItsMembers() {
+		Project project = fixture.persistProject(TEAM_SIZE);
+		project.setCreatedBy(fixture.persistUser(Role.RESEARCHER));
+		projectRepository.save(project);
+
+		List<User> students = fixture.persistStudents(3);
+		projectService.claimProject(authenticationOf(students.get(0)), project.getId());
+		for (Application application : fixture.persistApplications(project, students.subList(1, 3), ApplicationStatusEnum.APPROVED)) {
+			applicationService.joinProject(authenticationOf(application.getApplicant()), application.getId());
+		}
+		assertThat(fixture.assignmentMembershipRows(project)).isEqualTo(3);
+
+		User teacher = fixture.persistUser(Role.TEACHER);
+		projectService.changeProjectStatus(authenticationOf(teacher), project.getId(), ProjectStatusEnum.REJECTED);
+
+		assertThat(projectRepository.findById(project.getId()))
+				.hasValueSatisfying(rejected -> assertThat(rejected.getStatus()).isEqualTo(ProjectStatusEnum.REJECTED));
+		assertThat(fixture.assignmentMembershipRows(project)).isZero();
+	}
+}
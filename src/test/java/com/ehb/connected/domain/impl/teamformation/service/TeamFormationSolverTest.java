@@ -0,0 +1,95 @@
+package com.ehb.connected.domain.impl.teamformation.service;
+
+import com.ehb.connected.domain.impl.teamformation.dto.TeamPlacementDto;
+import com.ehb.connected.domain.impl.teamformation.dto.TeamPlacementReason;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TeamFormationSolverTest {
+
+	private final TeamFormationSolver solver = new TeamFormationSolver();
+
+	@Test
+	void approvedApplicantWinsTheLastSeatOverPendingApplicant() {
+		TeamFormationSolver.Result result = solver.solve(new TeamFormationSolver.Input(
+				List.of(1L, 2L),
+				Map.of(10L, 1, 20L, 1),
+				Map.of(),
+				Map.of(),
+				Map.of(1L, Map.of(10L, 1), 2L, Map.of(10L, 2))));
+
+		Map<Long, TeamPlacementDto> byStudent = byStudent(result);
+		assertThat(byStudent.get(2L).projectId()).isEqualTo(10L);
+		assertThat(byStudent.get(2L).reason()).isEqualTo(TeamPlacementReason.PREFERENCE);
+		assertThat(byStudent.get(1L).projectId()).isEqualTo(20L);
+		assertThat(byStudent.get(1L).reason()).isEqualTo(TeamPlacementReason.FILL);
+		assertThat(result.unplacedStudentIds()).isEmpty();
+	}
+
+	@Test
+	void tagOverlapBreaksTiesAndOverflowIsReported() {
+		TeamFormationSolver.Result result = solver.solve(new TeamFormationSolver.Input(
+				List.of(1L, 2L, 3L),
+				Map.of(10L, 1, 20L, 1),
+				Map.of(1L, Set.of(100L), 2L, Set.of(200L)),
+				Map.of(10L, Set.of(100L), 20L, Set.of(200L)),
+				Map.of()));
+
+		Map<Long, TeamPlacementDto> byStudent = byStudent(result);
+		assertThat(byStudent.get(1L).projectId()).isEqualTo(10L);
+		assertThat(byStudent.get(2L).projectId()).isEqualTo(20L);
+		assertThat(byStudent.get(1L).reason()).isEqualTo(TeamPlacementReason.TAG_MATCH);
+		assertThat(result.unplacedStudentIds()).containsExactly(3L);
+	}
+
+	@Test
+	void largeAssignmentNeverExceedsCapacity() {
+		Random random = new Random(42);
+		List<Long> students = LongStream.rangeClosed(1, 5_000).boxed().toList();
+		Map<Long, Integer> capacities = new HashMap<>();
+		Map<Long, Set<Long>> projectTags = new HashMap<>();
+		for (long project = 1; project <= 1_000; project++) {
+			capacities.put(project, 1 + random.nextInt(5));
+			projectTags.put(project, randomTags(random));
+		}
+		Map<Long, Set<Long>> studentTags = new HashMap<>();
+		Map<Long, Map<Long, Integer>> preferences = new HashMap<>();
+		for (Long student : students) {
+			studentTags.put(student, randomTags(random));
+			preferences.put(student, Map.of(1L + random.nextInt(50), 1));
+		}
+
+		TeamFormationSolver.Result result = solver.solve(new TeamFormationSolver.Input(
+				students, capacities, studentTags, projectTags, preferences));
+
+		Map<Long, Long> perProject = result.placements().stream()
+				.collect(Collectors.groupingBy(TeamPlacementDto::projectId, Collectors.counting()));
+		perProject.forEach((project, count) -> assertThat(count).isLessThanOrEqualTo(capacities.get(project)));
+		int seats = capacities.values().stream().mapToInt(Integer::intValue).sum();
+		assertThat(result.placements()).hasSize(Math.min(seats, students.size()));
+		assertThat(result.placements().size() + result.unplacedStudentIds().size()).isEqualTo(students.size());
+	}
+
+	private static Set<Long> randomTags(Random random) {
+		Set<Long> tags = new HashSet<>();
+		for (int i = 0; i < 3; i++) {
+			tags.add(1L + random.nextInt(40));
+		}
+		return tags;
+	}
+
+	private static Map<Long, TeamPlacementDto> byStudent(TeamFormationSolver.Result result) {
+		return result.placements().stream().collect(Collectors.toMap(TeamPlacementDto::studentId, Function.identity()));
+	}
+}